@@ -0,0 +1,85 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.dto.ApplicationWithDetailsDto;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.service.ApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+// The admin application listing: the original entity walk of convertToApplicationWithDetailsDto
+// against the single projection query that replaced it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationDetailsBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private BenchmarkContext context;
+    private ApplicationRepository applicationRepository;
+    private ApplicationService applicationService;
+    private Pageable firstPage;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        this.context = context;
+        this.applicationRepository = context.bean(ApplicationRepository.class);
+        this.applicationService = context.bean(ApplicationService.class);
+        this.firstPage = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "submissionDate"));
+    }
+
+    @Benchmark
+    public Page<ApplicationWithDetailsDto> entityWalk() {
+        return context.inReadOnlyTransaction(() ->
+                applicationRepository.findAll(firstPage).map(ApplicationDetailsBenchmark::toApplicationWithDetailsDto));
+    }
+
+    @Benchmark
+    public Page<ApplicationWithDetailsDto> projectionQuery() {
+        return applicationService.findAllApplicationsWithDetails(firstPage);
+    }
+
+    // The original ApplicationService.convertToApplicationWithDetailsDto, kept as the baseline
+    private static ApplicationWithDetailsDto toApplicationWithDetailsDto(Application app) {
+        return new ApplicationWithDetailsDto(
+            app.getId(),
+            app.getSubmissionDate(),
+            app.getStatus(),
+            app.getFoodTruck() != null ? app.getFoodTruck().getId() : null,
+            app.getFoodTruck() != null ? app.getFoodTruck().getLocation() : null,
+            app.getFoodTruck() != null ? app.getFoodTruck().getOperatingRegion() : null,
+            app.getFoodTruck() != null ? app.getFoodTruck().getCuisineSpecialties() : null,
+            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null ?
+                app.getFoodTruck().getBrand().getBrandName() : null,
+            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null &&
+                app.getFoodTruck().getBrand().getVendor() != null ?
+                app.getFoodTruck().getBrand().getVendor().getName() : null,
+            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null &&
+                app.getFoodTruck().getBrand().getVendor() != null ?
+                app.getFoodTruck().getBrand().getVendor().getEmail() : null,
+            app.getReview() != null ? app.getReview().getId() : null,
+            app.getReview() != null && app.getReview().getReviewer() != null ?
+                app.getReview().getReviewer().getName() : null
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.SpringappApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// The application context every benchmark runs against: the "benchmark" profile on an
+// embedded H2 database, seeded by SyntheticDataGenerator before the trial. With the default
+// ten trucks per vendor, 100 and 1000 vendors mean 1000 and 10000 trucks and applications.
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    @Param({"100", "1000"})
+    public int vendors;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(SpringappApplication.class)
+                .profiles("benchmark", "synthetic")
+                .run("--synthetic.vendors=" + vendors);
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // Runs the work the way a read-only service method would, with lazy loading available
+    public <T> T inReadOnlyTransaction(Supplier<T> work) {
+        return readOnly.execute(status -> work.get());
+    }
+}
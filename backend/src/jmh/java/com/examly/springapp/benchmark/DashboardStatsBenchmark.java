@@ -0,0 +1,165 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.FoodTruckRepository;
+import com.examly.springapp.service.ApplicationService;
+import com.examly.springapp.service.DashboardCounterRegistry;
+import com.examly.springapp.service.DashboardStatsService;
+import com.examly.springapp.service.InspectionService;
+import com.examly.springapp.service.ReviewService;
+import com.examly.springapp.service.UserService;
+import com.examly.springapp.service.VendorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// The super admin dashboard: the original SuperAdminController.getDashboardStats, which loads every
+// row and counts in streams, against the grouped count queries and the in-memory counter snapshot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardStatsBenchmark {
+
+    private UserService userService;
+    private VendorService vendorService;
+    private ApplicationService applicationService;
+    private FoodTruckRepository foodTruckRepository;
+    private InspectionService inspectionService;
+    private ReviewService reviewService;
+    private DashboardStatsService dashboardStatsService;
+    private DashboardCounterRegistry dashboardCounterRegistry;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        this.userService = context.bean(UserService.class);
+        this.vendorService = context.bean(VendorService.class);
+        this.applicationService = context.bean(ApplicationService.class);
+        this.foodTruckRepository = context.bean(FoodTruckRepository.class);
+        this.inspectionService = context.bean(InspectionService.class);
+        this.reviewService = context.bean(ReviewService.class);
+        this.dashboardStatsService = context.bean(DashboardStatsService.class);
+        this.dashboardCounterRegistry = context.bean(DashboardCounterRegistry.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> streamCounts() {
+        return legacyDashboardStats();
+    }
+
+    @Benchmark
+    public Map<String, Object> groupedCounts() {
+        return dashboardStatsService.getDashboardStats();
+    }
+
+    @Benchmark
+    public Map<String, Object> counterSnapshot() {
+        return dashboardCounterRegistry.snapshot();
+    }
+
+    // The original SuperAdminController.getDashboardStats, kept as the baseline. The food truck
+    // list goes to the repository because FoodTruckService.getAllFoodTrucks is now cached.
+    private Map<String, Object> legacyDashboardStats() {
+        Map<String, Object> stats = new HashMap<>();
+
+        // User counts by role
+        long totalAdmins = userService.findByRole(User.Role.ADMIN).size();
+        long totalInspectors = userService.findByRole(User.Role.INSPECTOR).size();
+        long totalReviewers = userService.findByRole(User.Role.REVIEWER).size();
+        long totalVendors = vendorService.getAllVendors().size();
+        long totalUsers = totalAdmins + totalInspectors + totalReviewers + totalVendors;
+
+        stats.put("totalUsers", totalUsers);
+        stats.put("totalAdmins", totalAdmins);
+        stats.put("totalInspectors", totalInspectors);
+        stats.put("totalReviewers", totalReviewers);
+        stats.put("totalVendors", totalVendors);
+
+        // Application statistics
+        List<Application> allApplications = applicationService.findAll();
+        long totalApplications = allApplications.size();
+        long submittedApplications = allApplications.stream()
+                .filter(app -> app.getStatus() == Application.ApplicationStatus.SUBMITTED)
+                .count();
+        long approvedApplications = allApplications.stream()
+                .filter(app -> app.getStatus() == Application.ApplicationStatus.APPROVED)
+                .count();
+        long rejectedApplications = allApplications.stream()
+                .filter(app -> app.getStatus() == Application.ApplicationStatus.REJECTED)
+                .count();
+
+        stats.put("totalApplications", totalApplications);
+        stats.put("submittedApplications", submittedApplications);
+        stats.put("approvedApplications", approvedApplications);
+        stats.put("rejectedApplications", rejectedApplications);
+
+        // Food truck statistics
+        long totalFoodTrucks = foodTruckRepository.findAll().size();
+        stats.put("totalFoodTrucks", totalFoodTrucks);
+
+        // Inspection statistics
+        List<Inspection> allInspections = inspectionService.findAll();
+        long totalInspections = allInspections.size();
+        long passedInspections = inspectionService.findByResult(Inspection.InspectionResult.PASS).size();
+        long failedInspections = inspectionService.findByResult(Inspection.InspectionResult.FAIL).size();
+        long pendingInspections = allInspections.stream()
+                .filter(inspection -> inspection.getResult() == null ||
+                       inspection.getResult() == Inspection.InspectionResult.IN_PROGRESS)
+                .count();
+
+        stats.put("totalInspections", totalInspections);
+        stats.put("passedInspections", passedInspections);
+        stats.put("failedInspections", failedInspections);
+        stats.put("pendingInspections", pendingInspections);
+
+        // Review statistics
+        List<Review> allReviews = reviewService.findAll();
+        long totalReviews = allReviews.size();
+        long approvedReviews = allReviews.stream()
+                .filter(review -> review.getReviewStatus() == Review.ReviewStatus.APPROVED)
+                .count();
+        long rejectedReviews = allReviews.stream()
+                .filter(review -> review.getReviewStatus() == Review.ReviewStatus.REJECTED)
+                .count();
+        long pendingReviews = allReviews.stream()
+                .filter(review -> review.getReviewStatus() == null ||
+                       review.getReviewStatus() == Review.ReviewStatus.IN_PROGRESS)
+                .count();
+
+        stats.put("totalReviews", totalReviews);
+        stats.put("approvedReviews", approvedReviews);
+        stats.put("rejectedReviews", rejectedReviews);
+        stats.put("pendingReviews", pendingReviews);
+
+        // Calculate success rates
+        double applicationApprovalRate = totalApplications > 0 ?
+                (approvedApplications * 100.0) / totalApplications : 0.0;
+        double inspectionPassRate = totalInspections > 0 ?
+                (passedInspections * 100.0) / totalInspections : 0.0;
+        double reviewApprovalRate = totalReviews > 0 ?
+                (approvedReviews * 100.0) / totalReviews : 0.0;
+
+        stats.put("applicationApprovalRate", Math.round(applicationApprovalRate * 10.0) / 10.0);
+        stats.put("inspectionPassRate", Math.round(inspectionPassRate * 10.0) / 10.0);
+        stats.put("reviewApprovalRate", Math.round(reviewApprovalRate * 10.0) / 10.0);
+
+        return stats;
+    }
+}
@@ -0,0 +1,115 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.model.FoodTruck;
+import com.examly.springapp.model.MenuItem;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Pages of trucks, and of menu items with their truck, loaded with the brand joined in as the former
+// EAGER mapping did, against the lazy brand with the truck's own brand_id and brand_name columns.
+// Each variant reads what the truck JSON shows of the brand. For the 100k-truck data set:
+//
+//   mvn -Pbenchmark test-compile exec:exec -Djmh.args="FoodTruckBrandBenchmark -p vendors=10000"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FoodTruckBrandBenchmark {
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private BenchmarkContext context;
+    private EntityManager entityManager;
+    private int truckPages;
+    private int menuItemPages;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        this.context = context;
+        this.entityManager = context.bean(EntityManager.class);
+        context.inReadOnlyTransaction(() -> {
+            truckPages = pages(entityManager.createQuery("SELECT COUNT(f) FROM FoodTruck f", Long.class).getSingleResult());
+            menuItemPages = pages(entityManager.createQuery("SELECT COUNT(m) FROM MenuItem m", Long.class).getSingleResult());
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void trucksWithBrandJoined(Blackhole blackhole) {
+        context.inReadOnlyTransaction(() -> {
+            trucks("SELECT f FROM FoodTruck f JOIN FETCH f.brand ORDER BY f.id")
+                    .forEach(truck -> {
+                        blackhole.consume(truck.getBrand().getId());
+                        blackhole.consume(truck.getBrand().getBrandName());
+                    });
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void trucksWithBrandColumns(Blackhole blackhole) {
+        context.inReadOnlyTransaction(() -> {
+            trucks("SELECT f FROM FoodTruck f ORDER BY f.id")
+                    .forEach(truck -> {
+                        blackhole.consume(truck.getBrandId());
+                        blackhole.consume(truck.getBrandName());
+                    });
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void menuItemsWithBrandJoined(Blackhole blackhole) {
+        context.inReadOnlyTransaction(() -> {
+            menuItems("SELECT m FROM MenuItem m JOIN FETCH m.foodTruck f JOIN FETCH f.brand ORDER BY m.id")
+                    .forEach(item -> blackhole.consume(item.getFoodTruck().getBrand().getBrandName()));
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void menuItemsWithBrandColumns(Blackhole blackhole) {
+        context.inReadOnlyTransaction(() -> {
+            menuItems("SELECT m FROM MenuItem m JOIN FETCH m.foodTruck ORDER BY m.id")
+                    .forEach(item -> blackhole.consume(item.getFoodTruck().getBrandName()));
+            return null;
+        });
+    }
+
+    // A random page, so the run covers the whole table rather than its first rows
+    private List<FoodTruck> trucks(String query) {
+        return entityManager.createQuery(query, FoodTruck.class)
+                .setFirstResult(ThreadLocalRandom.current().nextInt(truckPages) * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    private List<MenuItem> menuItems(String query) {
+        return entityManager.createQuery(query, MenuItem.class)
+                .setFirstResult(ThreadLocalRandom.current().nextInt(menuItemPages) * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    private int pages(long rows) {
+        return (int) Math.max(1, rows / pageSize);
+    }
+}
@@ -0,0 +1,96 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.FoodTruck;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.repository.FoodTruckRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the FoodTruck and Application graphs the controllers return, with the
+// application's ObjectMapper. The "serialize" benchmarks write graphs loaded and initialized once,
+// so they measure Jackson alone (including the brandName/brandId getters); the "loadAndSerialize"
+// ones load fresh entities per call, so the lazy loads triggered while writing are counted too.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int graphSize;
+
+    private BenchmarkContext context;
+    private ObjectMapper objectMapper;
+    private FoodTruckRepository foodTruckRepository;
+    private ApplicationRepository applicationRepository;
+    private Pageable firstPage;
+
+    private List<FoodTruck> foodTrucks;
+    private List<Application> applications;
+
+    @Setup
+    public void setUp(BenchmarkContext context) {
+        this.context = context;
+        this.objectMapper = context.bean(ObjectMapper.class);
+        this.foodTruckRepository = context.bean(FoodTruckRepository.class);
+        this.applicationRepository = context.bean(ApplicationRepository.class);
+        this.firstPage = PageRequest.of(0, graphSize, Sort.by("id"));
+
+        // Writing each graph once inside the transaction initializes every association Jackson visits
+        context.inReadOnlyTransaction(() -> {
+            foodTrucks = foodTruckRepository.findAll(firstPage).getContent();
+            applications = applicationRepository.findAll(firstPage).getContent();
+            write(foodTrucks);
+            write(applications);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public byte[] serializeFoodTrucks() {
+        return write(foodTrucks);
+    }
+
+    @Benchmark
+    public byte[] serializeApplications() {
+        return write(applications);
+    }
+
+    @Benchmark
+    public byte[] loadAndSerializeFoodTrucks() {
+        return context.inReadOnlyTransaction(() -> write(foodTruckRepository.findAll(firstPage).getContent()));
+    }
+
+    @Benchmark
+    public byte[] loadAndSerializeApplications() {
+        return context.inReadOnlyTransaction(() -> write(applicationRepository.findAll(firstPage).getContent()));
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Serialization failed", e);
+        }
+    }
+}
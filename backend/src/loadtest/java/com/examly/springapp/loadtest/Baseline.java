@@ -0,0 +1,62 @@
+package com.examly.springapp.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Stored per-endpoint results of an accepted run; a new run regresses when an endpoint's p95 or p99
+// grows, its throughput drops, or its error rate rises by more than the tolerance
+class Baseline {
+
+    // Error rates are compared in absolute terms
+    private static final double ERROR_RATE_TOLERANCE = 0.01;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Baseline() {}
+
+    static Map<String, EndpointStats> read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), new TypeReference<Map<String, EndpointStats>>() {});
+    }
+
+    static void write(Path file, Object stats) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), stats);
+    }
+
+    static List<String> regressions(Map<String, EndpointStats> baseline, Map<String, EndpointStats> current,
+                                    double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            EndpointStats actual = current.get(endpoint);
+            if (actual == null || actual.getRequests() == 0) {
+                regressions.add(endpoint + ": no requests completed");
+                return;
+            }
+            if (actual.getP95() > expected.getP95() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p95 %.1f ms, baseline %.1f ms", endpoint, actual.getP95(), expected.getP95()));
+            }
+            if (actual.getP99() > expected.getP99() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %.1f ms, baseline %.1f ms", endpoint, actual.getP99(), expected.getP99()));
+            }
+            if (actual.getThroughput() < expected.getThroughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s: %.1f req/s, baseline %.1f req/s", endpoint,
+                        actual.getThroughput(), expected.getThroughput()));
+            }
+            if (actual.errorRate() > expected.errorRate() + ERROR_RATE_TOLERANCE) {
+                regressions.add(String.format("%s: %.1f%% errors, baseline %.1f%%", endpoint,
+                        actual.errorRate() * 100, expected.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,45 @@
+package com.examly.springapp.loadtest;
+
+// Latency percentiles (milliseconds) and throughput (requests per second) of one endpoint
+public class EndpointStats {
+    private long requests;
+    private long errors;
+    private double throughput;
+    private double p50;
+    private double p95;
+    private double p99;
+
+    public EndpointStats() {}
+
+    public EndpointStats(long requests, long errors, double throughput, double p50, double p95, double p99) {
+        this.requests = requests;
+        this.errors = errors;
+        this.throughput = throughput;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+    }
+
+    public double errorRate() {
+        return requests > 0 ? (double) errors / requests : 0.0;
+    }
+
+    // Getters and setters
+    public long getRequests() { return requests; }
+    public void setRequests(long requests) { this.requests = requests; }
+
+    public long getErrors() { return errors; }
+    public void setErrors(long errors) { this.errors = errors; }
+
+    public double getThroughput() { return throughput; }
+    public void setThroughput(double throughput) { this.throughput = throughput; }
+
+    public double getP50() { return p50; }
+    public void setP50(double p50) { this.p50 = p50; }
+
+    public double getP95() { return p95; }
+    public void setP95(double p95) { this.p95 = p95; }
+
+    public double getP99() { return p99; }
+    public void setP99(double p99) { this.p99 = p99; }
+}
@@ -0,0 +1,67 @@
+package com.examly.springapp.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Collects every response time per endpoint; samples are only kept while recording is on,
+// so the warm-up phase does not count
+class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, boolean success) {
+        if (recording) {
+            endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+        }
+    }
+
+    // Sorted by endpoint so reports and baselines diff cleanly
+    Map<String, EndpointStats> summarize(double seconds) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> stats.put(endpoint, samples.summarize(seconds)));
+        return stats;
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats summarize(double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        // Nearest-rank percentile, in milliseconds
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.examly.springapp.loadtest;
+
+import com.examly.springapp.SpringappApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// HTTP load test of the main REST flows. Without baseUrl it starts the application itself on H2
+// with the "loadtest" and "synthetic" profiles; with baseUrl it targets a running instance, which
+// must have been started with the "synthetic" profile (e.g. on a local MySQL).
+//
+// Arguments are key=value pairs:
+//   baseUrl         target, default: start in-process
+//   target          database of the in-process target: h2, or mysql for the local MySQL of application.properties (h2)
+//   vendors         synthetic.vendors of the in-process target (1000)
+//   threads         request threads of the in-process target: platform or virtual (platform)
+//   scenario        flows for the main REST flows, reads for the two heaviest listings only (flows)
+//   users           concurrent virtual users (16)
+//   warmup          seconds before recording starts (15)
+//   duration        recorded seconds (60)
+//   baseline        stored baseline to compare against (src/loadtest/baseline.json)
+//   tolerance       allowed relative regression of p95, p99 and throughput (0.25)
+//   updateBaseline  store this run as the new baseline (false)
+//   report          where this run's results are written (target/loadtest-report.json)
+//
+// Exits with status 1 when an endpoint regressed against the baseline.
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "16"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.25"));
+        Path baselineFile = Path.of(options.getOrDefault("baseline", "src/loadtest/baseline.json"));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+        boolean updateBaseline = Boolean.parseBoolean(options.getOrDefault("updateBaseline", "false"));
+
+        boolean readsOnly = options.getOrDefault("scenario", "flows").equals("reads");
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("baseUrl");
+        if (baseUrl == null) {
+            context = startApplication(options.getOrDefault("target", "h2"), options.getOrDefault("vendors", "1000"),
+                    options.getOrDefault("threads", "platform").equals("virtual"));
+            baseUrl = baseUrl(context);
+        }
+
+        Map<String, EndpointStats> results;
+        try {
+            results = run(baseUrl, users, warmup, duration, readsOnly);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+
+        print(results, users, duration);
+        Baseline.write(reportFile, results);
+        System.out.println("Report written to " + reportFile);
+
+        if (updateBaseline || !Files.exists(baselineFile)) {
+            Baseline.write(baselineFile, results);
+            System.out.println("Baseline stored in " + baselineFile);
+            return;
+        }
+        List<String> regressions = Baseline.regressions(Baseline.read(baselineFile), results, tolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("No regression against " + baselineFile);
+            return;
+        }
+        System.out.println("Regressions against " + baselineFile + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+
+    static ConfigurableApplicationContext startApplication(String target, String vendors, boolean virtualThreads) {
+        // Devtools would otherwise restart the application in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String[] profiles = target.equals("mysql") ? new String[] {"synthetic"} : new String[] {"loadtest", "synthetic"};
+        return new SpringApplicationBuilder(SpringappApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0", "--synthetic.vendors=" + vendors,
+                        "--spring.threads.virtual.enabled=" + virtualThreads);
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    static Map<String, EndpointStats> run(String baseUrl, int users, int warmup, int duration, boolean readsOnly)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LatencyRecorder recorder = new LatencyRecorder();
+        Scenario scenario = new Scenario(baseUrl, client, new ObjectMapper(), recorder);
+        scenario.prepare();
+
+        long stopAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup + duration);
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            virtualUsers.submit(() -> {
+                while (System.nanoTime() < stopAt) {
+                    if (readsOnly) {
+                        scenario.runReads();
+                    } else {
+                        scenario.run();
+                    }
+                }
+                return null;
+            });
+        }
+
+        System.out.printf("Warming up for %d s against %s with %d users%n", warmup, baseUrl, users);
+        Thread.sleep(TimeUnit.SECONDS.toMillis(warmup));
+        recorder.start();
+        long recordingStarted = System.nanoTime();
+        System.out.printf("Recording for %d s%n", duration);
+
+        virtualUsers.shutdown();
+        virtualUsers.awaitTermination(duration + 120L, TimeUnit.SECONDS);
+        recorder.stop();
+        virtualUsers.shutdownNow();
+
+        double seconds = (System.nanoTime() - recordingStarted) / 1_000_000_000.0;
+        return recorder.summarize(seconds);
+    }
+
+    static void print(Map<String, EndpointStats> results, int users, int duration) {
+        System.out.printf("%n%d users, %d s%n", users, duration);
+        System.out.printf("%-70s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        results.forEach((endpoint, stats) -> System.out.printf("%-70s %9d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, stats.getRequests(), stats.getErrors(), stats.getThroughput(),
+                stats.getP50(), stats.getP95(), stats.getP99()));
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
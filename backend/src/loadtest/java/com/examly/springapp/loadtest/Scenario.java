@@ -0,0 +1,183 @@
+package com.examly.springapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// One pass through the main flows of the vendor, admin, reviewer and inspector apps. Every call is
+// timed under its route template; a step whose input could not be obtained is skipped.
+// Vendors, applications and staff are those of a SyntheticDataGenerator data set.
+class Scenario {
+
+    private static final String PASSWORD = "demo";
+    private static final String[] REGIONS = {"Downtown", "Uptown", "Harbor", "University"};
+    private static final String[] CUISINES = {"Mexican", "BBQ", "Italian", "Vegan"};
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    private long vendors;
+    private long applications;
+    private List<Long> reviewers;
+    private List<Long> inspectors;
+
+    Scenario(String baseUrl, HttpClient client, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    // Reads the data set's size and staff ids from the target, without recording
+    void prepare() throws IOException, InterruptedException {
+        JsonNode stats = objectMapper.readTree(send(get("/api/superadmin/dashboard/stats")).body());
+        vendors = stats.path("totalVendors").asLong();
+        applications = stats.path("totalApplications").asLong();
+        reviewers = ids(objectMapper.readTree(send(get("/api/users/role/REVIEWER")).body()));
+        inspectors = ids(objectMapper.readTree(send(get("/api/users/role/INSPECTOR")).body()));
+        if (vendors == 0 || applications == 0 || reviewers.isEmpty() || inspectors.isEmpty()) {
+            throw new IllegalStateException("The target has no synthetic data set, start it with the \"synthetic\" profile");
+        }
+    }
+
+    void run() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long vendorNumber = 1 + random.nextLong(vendors);
+        long reviewerId = reviewers.get(random.nextInt(reviewers.size()));
+        long inspectorId = inspectors.get(random.nextInt(inspectors.size()));
+
+        // Vendor app: log in, list the brands, register a truck
+        JsonNode vendor = call("POST /api/vendors/login", post("/api/vendors/login",
+                Map.of("email", "vendor" + vendorNumber + "@gmail.com", "password", PASSWORD)));
+        if (vendor != null) {
+            long vendorId = vendor.path("id").asLong();
+            call("GET /api/brands/vendor/{vendorId}", get("/api/brands/vendor/" + vendorId));
+            JsonNode brands = vendor.path("brands");
+            if (brands.size() > 0) {
+                long brandId = brands.get(random.nextInt(brands.size())).path("id").asLong();
+                call("POST /api/foodtrucks/{brandId}", post("/api/foodtrucks/" + brandId, Map.of(
+                        "vendorId", vendorId,
+                        "foodTruck", Map.of(
+                                "operatingRegion", REGIONS[random.nextInt(REGIONS.length)],
+                                "location", (100 + random.nextInt(900)) + " Load Street",
+                                "cuisineSpecialties", CUISINES[random.nextInt(CUISINES.length)],
+                                "menuHighlights", "Load test special"),
+                        "documents", List.of(List.of("Business License", "/documents/loadtest/license.pdf")))));
+            }
+        }
+
+        // Admin app: listing pages, then assign a reviewer to one of the seeded applications
+        call("GET /api/foodtrucks", get("/api/foodtrucks"));
+        call("GET /api/applications/with-details/paginated",
+                get("/api/applications/with-details/paginated?page=0&size=10"));
+        call("GET /api/applications/paginated", get("/api/applications/paginated?page=0&size=10"));
+        long applicationId = 1 + random.nextLong(applications);
+        JsonNode application = call("POST /api/applications/{applicationId}/assign-reviewer/{reviewerId}",
+                post("/api/applications/" + applicationId + "/assign-reviewer/" + reviewerId, Map.of()));
+
+        // Reviewer app: pending reviews, then decide the assigned one
+        call("GET /api/reviews/reviewer/{reviewerId}/paginated",
+                get("/api/reviews/reviewer/" + reviewerId + "/paginated?page=0&size=10"));
+        if (application != null && application.path("review").has("id")) {
+            String decision = random.nextInt(100) < 80 ? "APPROVED" : "REJECTED";
+            JsonNode review = call("PUT /api/reviews/{reviewId}/status/{status}",
+                    put("/api/reviews/" + application.path("review").path("id").asLong() + "/status/" + decision));
+
+            // Admin app: approved trucks get an inspector
+            if (review != null && decision.equals("APPROVED") && application.path("foodTruck").has("id")) {
+                call("POST /api/inspections/assign/{foodTruckId}/inspector/{inspectorId}",
+                        post("/api/inspections/assign/" + application.path("foodTruck").path("id").asLong()
+                                + "/inspector/" + inspectorId, Map.of()));
+            }
+        }
+
+        // Inspector app and super admin dashboard
+        call("GET /api/inspections/inspector/{inspectorId}/paginated",
+                get("/api/inspections/inspector/" + inspectorId + "/paginated?page=0&size=10"));
+        call("GET /api/superadmin/dashboard/stats", get("/api/superadmin/dashboard/stats"));
+    }
+
+    // Read-only pass over the two heaviest listings, for comparing request execution modes
+    void runReads() throws InterruptedException {
+        exchange("GET /api/applications/with-details", get("/api/applications/with-details?page=0&size=10"));
+        exchange("GET /api/foodtrucks", get("/api/foodtrucks"));
+    }
+
+    // Returns the parsed body of a 2xx response, null otherwise
+    private JsonNode call(String endpoint, HttpRequest request) throws InterruptedException {
+        HttpResponse<byte[]> response = exchange(endpoint, request);
+        if (response == null || response.body().length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Times the request; returns the response if it was a 2xx, null otherwise. Transport errors count as failures.
+    private HttpResponse<byte[]> exchange(String endpoint, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - started, success);
+            return success ? response : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return request(path).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Accept", "application/json");
+    }
+
+    private static List<Long> ids(JsonNode users) {
+        List<Long> ids = new ArrayList<>();
+        users.forEach(user -> ids.add(user.path("id").asLong()));
+        return ids;
+    }
+}
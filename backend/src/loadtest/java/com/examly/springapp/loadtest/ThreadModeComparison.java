@@ -0,0 +1,56 @@
+package com.examly.springapp.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Throughput of /api/applications/with-details and /api/foodtrucks under a burst of concurrent clients,
+// with the in-process application on platform threads and then on virtual threads. Needs Java 21+ for
+// the virtual run to differ. H2 has no I/O wait to hide, so target=mysql gives the representative numbers.
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.examly.springapp.loadtest.ThreadModeComparison \
+//       -Dloadtest.args="target=mysql users=2000"
+//
+// Arguments are key=value pairs: target (h2), vendors (50), users (2000), warmup (15), duration (60),
+// report (target/thread-mode-comparison.json)
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parse(args);
+        String target = options.getOrDefault("target", "h2");
+        String vendors = options.getOrDefault("vendors", "50");
+        int users = Integer.parseInt(options.getOrDefault("users", "2000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/thread-mode-comparison.json"));
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("Java " + Runtime.version().feature() + " has no virtual threads, both runs will use platform threads");
+        }
+
+        Map<String, Map<String, EndpointStats>> results = new LinkedHashMap<>();
+        for (String mode : new String[] {"platform", "virtual"}) {
+            System.out.printf("%n== %s threads ==%n", mode);
+            ConfigurableApplicationContext context = LoadTest.startApplication(target, vendors, mode.equals("virtual"));
+            try {
+                results.put(mode, LoadTest.run(LoadTest.baseUrl(context), users, warmup, duration, true));
+            } finally {
+                context.close();
+            }
+            LoadTest.print(results.get(mode), users, duration);
+        }
+
+        System.out.printf("%n%-40s %14s %14s %14s %14s%n", "endpoint", "platform req/s", "virtual req/s",
+                "platform p99", "virtual p99");
+        results.get("platform").forEach((endpoint, platform) -> {
+            EndpointStats virtual = results.get("virtual").getOrDefault(endpoint, new EndpointStats());
+            System.out.printf("%-40s %14.1f %14.1f %11.1f ms %11.1f ms%n", endpoint,
+                    platform.getThroughput(), virtual.getThroughput(), platform.getP99(), virtual.getP99());
+        });
+
+        Baseline.write(reportFile, results);
+        System.out.println("Report written to " + reportFile);
+    }
+}
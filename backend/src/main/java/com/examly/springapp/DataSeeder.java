@@ -1,18 +1,22 @@
 package com.examly.springapp;
 
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.examly.springapp.model.*;
 import com.examly.springapp.model.dto.FoodTruckCreationDTO;
+import com.examly.springapp.repository.UserRepository;
 import com.examly.springapp.service.*;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+// Small fixed demo data set; the "synthetic" profile seeds a configurable one instead
 @Component
+@Profile("!benchmark & !synthetic")
 public class DataSeeder implements CommandLineRunner {
 
     @Autowired
@@ -29,9 +33,16 @@ public class DataSeeder implements CommandLineRunner {
     private ApplicationService applicationService;
     @Autowired
     private DocumentService documentService;
+    @Autowired
+    private UserRepository userRepository;
 
     @Override
     public void run(String... args) throws Exception {
+        // The schema outlives restarts now that the migrations own it
+        if (userRepository.count() > 0) {
+            System.out.println("Skipping data seeding, the database already holds users.");
+            return;
+        }
         System.out.println("Starting data seeding process...");
         seedUsers();
         seedVendorsAndRelatedData();
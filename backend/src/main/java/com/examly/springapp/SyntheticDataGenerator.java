@@ -0,0 +1,299 @@
+package com.examly.springapp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Bulk fixture for load tests and benchmarks, active with the "synthetic" profile instead of DataSeeder.
+// Rows go in through batched JDBC inserts with ids assigned here, so the database must be empty;
+// the id sequences are moved past the generated rows afterwards.
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Same as the allocationSize of the entities' @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String PASSWORD = "demo";
+
+    private static final String[] REGIONS = {"Downtown", "Uptown", "Harbor", "University", "Airport", "Suburbs", "Old Town", "Tech Park"};
+    private static final String[] CUISINES = {"Mexican", "BBQ", "Asian Fusion", "Italian", "Vegan", "Burgers", "Desserts", "Indian", "Mediterranean", "Seafood"};
+    private static final String[] BRAND_WORDS = {"Rolling", "Urban", "Golden", "Spicy", "Happy", "Smoky", "Fresh", "Street", "Wild", "Little"};
+    private static final String[] DISHES = {"Tacos", "Brisket", "Ramen", "Pizza", "Falafel", "Sliders", "Churros", "Curry", "Gyros", "Fish Tacos", "Burrito", "Wings"};
+    private static final String[] DOCUMENTS = {"Business License", "Food Safety Certificate", "Insurance Certificate", "Vehicle Registration", "Health Department Permit"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    @Value("${synthetic.vendors:1000}")
+    private int vendors;
+    @Value("${synthetic.brands-per-vendor:2}")
+    private int brandsPerVendor;
+    @Value("${synthetic.trucks-per-brand:5}")
+    private int trucksPerBrand;
+    @Value("${synthetic.menu-items-per-truck:8}")
+    private int menuItemsPerTruck;
+    @Value("${synthetic.documents-per-application:3}")
+    private int documentsPerApplication;
+    @Value("${synthetic.admins:2}")
+    private int admins;
+    @Value("${synthetic.inspectors:50}")
+    private int inspectors;
+    @Value("${synthetic.reviewers:50}")
+    private int reviewers;
+    @Value("${synthetic.batch-size:1000}")
+    private int batchSize;
+    @Value("${synthetic.seed:42}")
+    private long seed;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM food_trucks", Integer.class);
+        if (existing != null && existing > 0) {
+            log.warn("Skipping synthetic data generation, the database already holds {} food trucks", existing);
+            return;
+        }
+        generate();
+    }
+
+    public void generate() {
+        if (inspectors < 1 || reviewers < 1) {
+            throw new IllegalArgumentException("Synthetic data needs at least one inspector and one reviewer");
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        long firstInspector = insertUsers();
+        long firstReviewer = firstInspector + inspectors;
+        insertVendorsAndBrands(now);
+
+        Ids ids = new Ids();
+        long trucks = (long) vendors * brandsPerVendor * trucksPerBrand;
+        for (long from = 1; from <= trucks; from += batchSize) {
+            long to = Math.min(trucks, from + batchSize - 1);
+            insertTrucks(from, to, random, now, firstInspector, firstReviewer, ids);
+        }
+
+        resetSequences(ids);
+        log.info("Synthetic data generated in {} ms: {} vendors, {} brands, {} trucks, {} menu items, "
+                        + "{} applications, {} documents, {} reviews, {} inspections",
+                System.currentTimeMillis() - started, vendors, (long) vendors * brandsPerVendor, trucks,
+                ids.menuItems, trucks, ids.documents, ids.reviews, ids.inspections);
+    }
+
+    // Returns the id of the first inspector; the reviewers follow the inspectors
+    private long insertUsers() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(user(rows.size() + 1, "Super Admin", "superadmin@gmail.com", User.Role.SUPER_ADMIN));
+        for (int i = 1; i <= admins; i++) {
+            rows.add(user(rows.size() + 1, "Admin User " + i, "admin" + i + "@gmail.com", User.Role.ADMIN));
+        }
+        long firstInspector = rows.size() + 1;
+        for (int i = 1; i <= inspectors; i++) {
+            rows.add(user(rows.size() + 1, "Inspector User " + i, "inspector" + i + "@gmail.com", User.Role.INSPECTOR));
+        }
+        for (int i = 1; i <= reviewers; i++) {
+            rows.add(user(rows.size() + 1, "Reviewer User " + i, "reviewer" + i + "@gmail.com", User.Role.REVIEWER));
+        }
+        insert("INSERT INTO ft_users (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)", rows);
+        return firstInspector;
+    }
+
+    private static Object[] user(long id, String name, String email, User.Role role) {
+        return new Object[] {id, name, email, PASSWORD, role.name()};
+    }
+
+    private void insertVendorsAndBrands(LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> vendorRows = new ArrayList<>();
+        List<Object[]> brandRows = new ArrayList<>();
+        for (long vendor = 1; vendor <= vendors; vendor++) {
+            vendorRows.add(new Object[] {vendor, "Vendor " + vendor, "vendor" + vendor + "@gmail.com", PASSWORD});
+            for (int b = 0; b < brandsPerVendor; b++) {
+                long brand = (vendor - 1) * brandsPerVendor + b + 1;
+                brandRows.add(new Object[] {brand, vendor, brandName(brand), 0L, updatedAt});
+            }
+            if (brandRows.size() >= batchSize) {
+                flushVendorsAndBrands(vendorRows, brandRows);
+            }
+        }
+        flushVendorsAndBrands(vendorRows, brandRows);
+    }
+
+    private static String brandName(long brand) {
+        return BRAND_WORDS[(int) (brand % BRAND_WORDS.length)] + " " + DISHES[(int) (brand % DISHES.length)] + " " + brand;
+    }
+
+    private void flushVendorsAndBrands(List<Object[]> vendorRows, List<Object[]> brandRows) {
+        insert("INSERT INTO vendors (id, name, email, password) VALUES (?, ?, ?, ?)", vendorRows);
+        insert("INSERT INTO brands (id, vendor_id, brand_name, version, updated_at) VALUES (?, ?, ?, ?, ?)", brandRows);
+        vendorRows.clear();
+        brandRows.clear();
+    }
+
+    // One application per truck, with the same id; trucks, their menus and the application's review
+    // and inspection are written together so every batch satisfies its foreign keys
+    private void insertTrucks(long from, long to, Random random, LocalDateTime now,
+                              long firstInspector, long firstReviewer, Ids ids) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> trucks = new ArrayList<>();
+        List<Object[]> menuItems = new ArrayList<>();
+        List<Object[]> applications = new ArrayList<>();
+        List<Object[]> documents = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        List<Object[]> inspections = new ArrayList<>();
+
+        for (long truck = from; truck <= to; truck++) {
+            long brand = (truck - 1) / trucksPerBrand + 1;
+            String cuisine = CUISINES[random.nextInt(CUISINES.length)];
+            Application.ApplicationStatus status = applicationStatus(random);
+
+            trucks.add(new Object[] {truck, brand, brandName(brand), REGIONS[random.nextInt(REGIONS.length)],
+                    (100 + random.nextInt(900)) + " Market Street", cuisine,
+                    DISHES[random.nextInt(DISHES.length)] + ", " + DISHES[random.nextInt(DISHES.length)],
+                    0L, updatedAt});
+
+            // Menu sizes vary around the configured average
+            int menuSize = menuItemsPerTruck / 2 + random.nextInt(menuItemsPerTruck + 1);
+            for (int m = 0; m < menuSize; m++) {
+                String dish = DISHES[random.nextInt(DISHES.length)];
+                menuItems.add(new Object[] {++ids.menuItems, cuisine + " " + dish, 4.0 + random.nextInt(2000) / 100.0,
+                        "House " + dish.toLowerCase() + " from truck " + truck, truck, 0L, updatedAt});
+            }
+
+            LocalDateTime submitted = now.minusMinutes(random.nextInt(90 * 24 * 60));
+            applications.add(new Object[] {truck, truck, Timestamp.valueOf(submitted), status.name()});
+            for (int d = 0; d < documentsPerApplication; d++) {
+                String document = DOCUMENTS[d % DOCUMENTS.length];
+                documents.add(new Object[] {++ids.documents, truck, document,
+                        "/documents/" + truck + "/" + document.toLowerCase().replace(' ', '_') + ".pdf"});
+            }
+
+            // Same lifecycle as the services: a review is assigned when the application goes in review
+            // and decides it; approved trucks are then inspected
+            Review.ReviewStatus reviewStatus = reviewStatus(status);
+            if (reviewStatus == null) {
+                continue;
+            }
+            LocalDateTime reviewed = submitted.plusHours(1 + random.nextInt(72));
+            reviews.add(new Object[] {++ids.reviews, truck, firstReviewer + random.nextInt(reviewers),
+                    Timestamp.valueOf(reviewed), reviewStatus.name()});
+            if (status == Application.ApplicationStatus.APPROVED) {
+                inspections.add(new Object[] {++ids.inspections, truck, firstInspector + random.nextInt(inspectors),
+                        Timestamp.valueOf(reviewed.plusDays(1 + random.nextInt(14))), inspectionResult(random).name()});
+            }
+        }
+
+        insert("INSERT INTO food_trucks (id, brand_id, brand_name, operating_region, location, cuisine_specialties, "
+                + "menu_highlights, version, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", trucks);
+        insert("INSERT INTO menu_items (id, name, price, description, truck_id, version, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", menuItems);
+        insert("INSERT INTO applications (id, food_truck_id, submission_date, status) VALUES (?, ?, ?, ?)", applications);
+        insert("INSERT INTO documents (id, application_id, document_name, file_path) VALUES (?, ?, ?, ?)", documents);
+        insert("INSERT INTO reviews (id, application_id, reviewer_id, review_date, review_status) VALUES (?, ?, ?, ?, ?)", reviews);
+        insert("INSERT INTO inspections (id, food_truck_id, inspector_id, inspection_date, result) VALUES (?, ?, ?, ?, ?)", inspections);
+    }
+
+    // 20% submitted, 25% in review, 45% approved, 10% rejected
+    private static Application.ApplicationStatus applicationStatus(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 20) return Application.ApplicationStatus.SUBMITTED;
+        if (roll < 45) return Application.ApplicationStatus.IN_REVIEW;
+        if (roll < 90) return Application.ApplicationStatus.APPROVED;
+        return Application.ApplicationStatus.REJECTED;
+    }
+
+    private static Review.ReviewStatus reviewStatus(Application.ApplicationStatus status) {
+        switch (status) {
+            case IN_REVIEW: return Review.ReviewStatus.IN_PROGRESS;
+            case APPROVED: return Review.ReviewStatus.APPROVED;
+            case REJECTED: return Review.ReviewStatus.REJECTED;
+            default: return null;
+        }
+    }
+
+    // 75% pass, 10% fail, 15% still in progress
+    private static Inspection.InspectionResult inspectionResult(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 75) return Inspection.InspectionResult.PASS;
+        if (roll < 85) return Inspection.InspectionResult.FAIL;
+        return Inspection.InspectionResult.IN_PROGRESS;
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(rows.size(), start + batchSize)));
+        }
+    }
+
+    // Moves every id sequence past the generated rows so entities saved later do not collide
+    private void resetSequences(Ids ids) {
+        long users = 1L + admins + inspectors + reviewers;
+        long brands = (long) vendors * brandsPerVendor;
+        long trucks = brands * trucksPerBrand;
+        boolean mySql = isMySql();
+        resetSequence(mySql, "ft_users_seq", users);
+        resetSequence(mySql, "vendors_seq", vendors);
+        resetSequence(mySql, "brands_seq", brands);
+        resetSequence(mySql, "food_trucks_seq", trucks);
+        resetSequence(mySql, "applications_seq", trucks);
+        resetSequence(mySql, "menu_items_seq", ids.menuItems);
+        resetSequence(mySql, "documents_seq", ids.documents);
+        resetSequence(mySql, "reviews_seq", ids.reviews);
+        resetSequence(mySql, "inspections_seq", ids.inspections);
+    }
+
+    private void resetSequence(boolean mySql, String sequence, long maxId) {
+        // A full allocation block of headroom, whether the pooled optimizer reads the value as the
+        // low or the high end of its block
+        long next = maxId + 1 + ALLOCATION_SIZE;
+        if (mySql) {
+            // MySQL has no sequences, Hibernate emulates them with a one-row table
+            jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ?", next);
+        } else {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+        }
+    }
+
+    private boolean isMySql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product.toLowerCase().contains("mysql");
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not determine the database product", e);
+        }
+    }
+
+    // Running counters of the generated rows, which double as their ids
+    private static final class Ids {
+        long menuItems;
+        long documents;
+        long reviews;
+        long inspections;
+    }
+}
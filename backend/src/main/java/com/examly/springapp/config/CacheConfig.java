@@ -0,0 +1,76 @@
+package com.examly.springapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Public catalogue reads
+    public static final String FOOD_TRUCK = "foodTruck";
+    public static final String FOOD_TRUCKS = "foodTrucks";
+    public static final String FOOD_TRUCKS_BY_BRAND = "foodTrucksByBrand";
+    public static final String MENU_ITEMS_BY_TRUCK = "menuItemsByTruck";
+
+    // Key of the single entry in FOOD_TRUCKS
+    public static final String ALL = "all";
+
+    // Bounded by size and TTL, with statistics recorded for the per-cache metrics.
+    // Puts and evictions are applied after the surrounding transaction commits, so a writer's
+    // own reads are never cached before it commits. A concurrent reader that loaded the old
+    // value before the commit can still put it after the eviction, though; that entry is stale
+    // until it expires, so the catalogue can lag a write by up to catalogue.cache.ttl-seconds.
+    @Bean
+    public CacheManager cacheManager(@Value("${catalogue.cache.ttl-seconds:300}") long ttlSeconds,
+                                     @Value("${catalogue.cache.max-entries:5000}") long maxEntries) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static mode: only the caches registered below exist
+        cacheManager.setCacheNames(List.of());
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        cacheManager.registerCustomCache(FOOD_TRUCK, caffeine(ttl, maxEntries).build());
+        cacheManager.registerCustomCache(FOOD_TRUCKS, caffeine(ttl, 1).build());
+        cacheManager.registerCustomCache(FOOD_TRUCKS_BY_BRAND, caffeine(ttl, maxEntries).build());
+        cacheManager.registerCustomCache(MENU_ITEMS_BY_TRUCK, caffeine(ttl, maxEntries).build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // Hibernate's second-level cache gets an Ehcache manager of its own, built from the regions in
+    // ehcache.xml. Asked for a URI, the JCache provider hands every SessionFactory in the JVM the same
+    // manager, so contexts on different databases would read each other's entities and the first one
+    // to close would close the regions of the rest.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManager(
+            @Value("${spring.jpa.properties.hibernate.javax.cache.uri:ehcache.xml}") String configuration) {
+        return properties -> {
+            EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                    EhcacheCachingProvider.class.getName(), CacheConfig.class.getClassLoader());
+            XmlConfiguration regions = new XmlConfiguration(CacheConfig.class.getClassLoader().getResource(configuration));
+            properties.put(ConfigSettings.CACHE_MANAGER,
+                    provider.getCacheManager(URI.create("urn:foodtruck:second-level:" + UUID.randomUUID()), regions));
+        };
+    }
+
+    private static Caffeine<Object, Object> caffeine(Duration ttl, long maxEntries) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats();
+    }
+}
@@ -0,0 +1,86 @@
+package com.examly.springapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Read-only transactions (@Transactional(readOnly = true), and Spring Data's own finders outside a
+// transaction) run on the replica pool, everything else on the primary. Active when replica.datasource.url
+// is set; otherwise the single auto-configured pool is used. Both pools are beans, so each gets its own
+// hikaricp.* metrics (tagged pool=primary / pool=replica) and health indicator.
+//
+// Replica reads can lag behind the primary: a method that reads a row and then writes based on it
+// must run in one read-write transaction.
+@Configuration
+@ConditionalOnProperty("replica.datasource.url")
+public class DataSourceRoutingConfig {
+
+    // Connection settings from spring.datasource.*, pool settings from spring.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Connection settings from replica.datasource.*, defaulting to the primary's credentials and driver;
+    // pool settings from replica.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, Environment environment) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("replica.datasource.url"))
+                .driverClassName(environment.getProperty("replica.datasource.driver-class-name",
+                        primary.determineDriverClassName()))
+                .username(environment.getProperty("replica.datasource.username", primary.determineUsername()))
+                .password(environment.getProperty("replica.datasource.password", primary.determinePassword()))
+                .build();
+    }
+
+    // The proxy only fetches a real connection at the first statement, once the transaction is under way,
+    // so the routing can still tell a read-only transaction from the rest
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+        routing.setTargetDataSources(Map.of(true, replica, false, primary));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Spring's JPA adapter has the session hold its first connection until it closes, and with open-in-view
+    // the session lasts the whole request: a request that began with a read-only finder would run its
+    // writes on the replica connection. Released after each transaction, the next one fetches its own.
+    // Spring only marks held connections read-only, hence the routing on the transaction's own flag.
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransaction() {
+        return properties -> properties.put(JdbcSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    static final class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.examly.springapp.config;
+
+import io.micrometer.common.KeyValues;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Micrometer instrumentation beyond what the actuator binds on its own (HTTP timers, repository
+// invocation timers, Hibernate statistics, Hikari pool gauges and cache statistics)
+@Configuration
+public class MetricsConfig {
+
+    // Lets SqlStatementCounter see every statement Hibernate prepares
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    // Tags http.server.requests with the controller method that served the request
+    @Bean
+    public DefaultServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context).and("handler", handlerName(handler));
+            }
+        };
+    }
+
+    // "Controller.method" for controller handlers, "none" when no handler matched
+    static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,69 @@
+package com.examly.springapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many SQL statements each API request issued, per controller method, and warns about
+// requests over the threshold, which usually means lazy loads firing once per row (N+1).
+// The count is also left in the STATEMENT_COUNT_ATTRIBUTE request attribute for tests.
+@Component
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".statements";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter statementCounter, MeterRegistry meterRegistry,
+                                     @Value("${sql.statements.warn-threshold:25}") long warnThreshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = statementCounter.end();
+            String handler = MetricsConfig.handlerName(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("SQL statements issued while serving one request")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            if (statements > warnThreshold) {
+                log.warn("{} {} ({}) issued {} SQL statements, over the threshold of {}",
+                        request.getMethod(), request.getRequestURI(), handler, statements, warnThreshold);
+            } else {
+                log.debug("{} {} ({}) issued {} SQL statements", request.getMethod(), request.getRequestURI(),
+                        handler, statements);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.examly.springapp.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Request execution mode. With spring.threads.virtual.enabled=true on Java 21+, Spring Boot runs Tomcat
+// requests, MVC async work (the streaming exports) and @Scheduled jobs on virtual threads. Nothing here
+// uses @Async, so async method execution is deliberately left disabled.
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int javaVersion = Runtime.version().feature();
+        if (requested && javaVersion < 21) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads, serving requests on platform threads",
+                    javaVersion);
+        } else {
+            log.info("Serving requests on {} threads", requested ? "virtual" : "platform");
+        }
+    }
+
+    // Virtual threads lift Tomcat's 200-thread cap, so a burst would otherwise put thousands of requests
+    // into the connection pool and JDBC driver at once; the longer a pinned virtual thread (blocked inside
+    // a synchronized driver path) holds its carrier, the worse that gets. This bulkhead keeps the old bound:
+    // waiting requests park on a semaphore, which unmounts them cleanly, and get 503 after the timeout.
+    // A request that goes async (a streamed export) keeps its permit until the async request completes,
+    // not just until the servlet thread hands it off, so long exports count against the bound too.
+    @Configuration
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static class VirtualThreadBulkhead {
+
+        @Bean
+        public FilterRegistrationBean<OncePerRequestFilter> concurrencyLimitFilter(
+                @Value("${virtual-threads.max-concurrent-requests:200}") int maxConcurrentRequests,
+                @Value("${virtual-threads.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+            Semaphore permits = new Semaphore(maxConcurrentRequests, true);
+            OncePerRequestFilter filter = new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain filterChain) throws ServletException, IOException {
+                    boolean acquired;
+                    try {
+                        acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        acquired = false;
+                    }
+                    if (!acquired) {
+                        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server busy, retry later");
+                        return;
+                    }
+                    boolean async = false;
+                    try {
+                        filterChain.doFilter(request, response);
+                        if (request.isAsyncStarted()) {
+                            request.getAsyncContext().addListener(new ReleaseOnComplete(permits));
+                            async = true;
+                        }
+                    } finally {
+                        if (!async) {
+                            permits.release();
+                        }
+                    }
+                }
+            };
+            FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns("/api/*");
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+
+    // Releases a bulkhead permit when an async request ends; the container calls onComplete once, also
+    // after a timeout or an error
+    private static final class ReleaseOnComplete implements AsyncListener {
+        private final Semaphore permits;
+
+        ReleaseOnComplete(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
@@ -1,19 +1,29 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.BulkStatusTransitionRequest;
+import com.examly.springapp.dto.CursorPage;
+import com.examly.springapp.dto.ReviewerAssignmentResult;
 import com.examly.springapp.model.Application;
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.Review; // Add this import
 import com.examly.springapp.repository.UserRepository; // Add this import
 import com.examly.springapp.repository.ReviewRepository; // Add this import
 import com.examly.springapp.service.ApplicationService;
+import com.examly.springapp.service.ApplicationStatusTransitionService;
+import com.examly.springapp.service.DashboardCounterRegistry;
+import com.examly.springapp.service.ExportService;
+import com.examly.springapp.service.ReviewerAssignmentService;
 import org.springframework.beans.factory.annotation.Autowired; // Add this import
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime; // Add this import
 import java.util.List;
@@ -32,13 +42,32 @@ public class ApplicationController {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private DashboardCounterRegistry dashboardCounters;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ApplicationStatusTransitionService statusTransitions;
+
+    @Autowired
+    private ReviewerAssignmentService reviewerAssignment;
+
     public ApplicationController(ApplicationService applicationService) {
         this.applicationService = applicationService;
     }
 
+    // view=summary returns flat rows from a single projection query; view=full the entities
     @GetMapping
-    public List<Application> getAll() {
-        return applicationService.findAll();
+    public ResponseEntity<?> getAll(@RequestParam(defaultValue = "full") String view) {
+        if (view.equalsIgnoreCase("summary")) {
+            return ResponseEntity.ok(applicationService.findAllSummaries());
+        }
+        if (!view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be summary or full"));
+        }
+        return ResponseEntity.ok(applicationService.findAll());
     }
 
     // used
@@ -69,14 +98,26 @@ public class ApplicationController {
     // used
     // get paginated applications
     // called from adminapp
+    // paging=keyset (or an "after" cursor) returns a CursorPage instead of a Page and skips the count query
     @GetMapping("/paginated")
-    public ResponseEntity<Page<Application>> getAllPaginated(
+    public ResponseEntity<?> getAllPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "submissionDate") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDirection,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String after) {
         try {
+            if (paging.equalsIgnoreCase("keyset") || after != null) {
+                Application.ApplicationStatus applicationStatus = status != null && !status.isEmpty()
+                        ? Application.ApplicationStatus.valueOf(status.toUpperCase())
+                        : null;
+                CursorPage<Application> slice = applicationService.findAllByCursor(after, size, sortBy,
+                        sortDirection, applicationStatus);
+                return ResponseEntity.ok(slice);
+            }
+
             Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC
                     : Sort.Direction.ASC;
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
@@ -117,48 +158,31 @@ public class ApplicationController {
                     : Sort.Direction.ASC;
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-            Page<Application> applications;
+            Page<com.examly.springapp.dto.ApplicationWithDetailsDto> applicationsWithDetails;
 
             if (status != null && !status.isEmpty()) {
                 Application.ApplicationStatus applicationStatus = Application.ApplicationStatus
                         .valueOf(status.toUpperCase());
-                applications = applicationService.findByStatusPaginated(applicationStatus, pageable);
+                applicationsWithDetails = applicationService
+                        .findApplicationsWithDetailsByStatus(applicationStatus, pageable);
             } else {
-                applications = applicationService.findAllPaginated(pageable);
+                applicationsWithDetails = applicationService.findAllApplicationsWithDetails(pageable);
             }
 
-            Page<com.examly.springapp.dto.ApplicationWithDetailsDto> applicationsWithDetails = applications
-                    .map(app -> new com.examly.springapp.dto.ApplicationWithDetailsDto(
-                            app.getId(),
-                            app.getSubmissionDate(),
-                            app.getStatus(),
-                            app.getFoodTruck() != null ? app.getFoodTruck().getId() : null,
-                            app.getFoodTruck() != null ? app.getFoodTruck().getLocation() : null,
-                            app.getFoodTruck() != null ? app.getFoodTruck().getOperatingRegion() : null,
-                            app.getFoodTruck() != null ? app.getFoodTruck().getCuisineSpecialties() : null, // Missing
-                                                                                                            // parameter
-                            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null
-                                    ? app.getFoodTruck().getBrand().getBrandName()
-                                    : null,
-                            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null &&
-                                    app.getFoodTruck().getBrand().getVendor() != null
-                                            ? app.getFoodTruck().getBrand().getVendor().getName()
-                                            : null,
-                            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null &&
-                                    app.getFoodTruck().getBrand().getVendor() != null
-                                            ? app.getFoodTruck().getBrand().getVendor().getEmail()
-                                            : null,
-                            app.getReview() != null ? app.getReview().getId() : null,
-                            app.getReview() != null && app.getReview().getReviewer() != null
-                                    ? app.getReview().getReviewer().getName()
-                                    : null));
-
             return ResponseEntity.ok(applicationsWithDetails);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    // Assigns every submitted application without a review to the reviewer with the fewest open reviews,
+    // in batches that commit on their own; safe to run on several nodes at once
+    @PostMapping("/assign-reviewers")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ReviewerAssignmentResult> assignReviewers() {
+        return ResponseEntity.ok(reviewerAssignment.assignUnassigned());
+    }
+
     // used
     // to assign reviewer
     // from adminapp
@@ -195,6 +219,7 @@ public class ApplicationController {
                 review.setReviewStatus(Review.ReviewStatus.IN_PROGRESS);
 
                 Review savedReview = reviewRepository.save(review);
+                dashboardCounters.recordReviewTransition(null, savedReview.getReviewStatus());
                 application.setReview(savedReview);
             }
 
@@ -256,9 +281,28 @@ public class ApplicationController {
         return ResponseEntity.ok(reviewers);
     }
 
+    // Streaming export for compliance pulls: format=ndjson|csv, optional status filter and [from, to) window on submissionDate
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            ExportService.Format exportFormat = ExportService.parseFormat(format);
+            Application.ApplicationStatus filter = status != null && !status.isEmpty()
+                    ? Application.ApplicationStatus.valueOf(status.toUpperCase())
+                    : null;
+            return ExportService.streamed("applications", exportFormat,
+                    out -> exportService.exportApplications(filter, from, to, exportFormat, out));
+        } catch (IllegalArgumentException e) {
+            return exportService.badRequest(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Application> getById(@PathVariable Long id) {
-        return applicationService.findById(id)
+        return applicationService.findDetailById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -295,6 +339,7 @@ public class ApplicationController {
     
 
     @PutMapping("/{id}/status")
+    @Transactional
     public ResponseEntity<?> updateApplicationStatus(
             @PathVariable Long id,
             @RequestBody Map<String, String> request) {
@@ -312,6 +357,30 @@ public class ApplicationController {
         }
     }
 
+    // Moves the listed applications, or without ids those matching the filter, from one status to
+    // another in set-based statements; the result has the outcome for every id. The service runs its own
+    // transaction, so a rejected request rolls back there and still answers 400.
+    @PutMapping("/status")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<?> transitionStatuses(@RequestBody BulkStatusTransitionRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from and to are required"));
+        }
+        Application.ApplicationStatus from;
+        Application.ApplicationStatus to;
+        try {
+            from = Application.ApplicationStatus.valueOf(request.getFrom().toUpperCase());
+            to = Application.ApplicationStatus.valueOf(request.getTo().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid status"));
+        }
+        try {
+            return ResponseEntity.ok(statusTransitions.transition(request.getIds(), from, to, request.getSubmittedBefore()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // Add these new endpoints
 
     @GetMapping("/with-details/paginated")
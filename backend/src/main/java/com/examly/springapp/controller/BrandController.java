@@ -4,9 +4,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.examly.springapp.model.Brand;
 import com.examly.springapp.service.BrandService;
+import com.examly.springapp.service.CatalogueVersionService;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +20,9 @@ public class BrandController {
     @Autowired
     private BrandService brandService;
 
+    @Autowired
+    private CatalogueVersionService catalogueVersions;
+
     @PostMapping("/{vendorId}")
     public ResponseEntity<Brand> createBrand(@PathVariable Long vendorId, @RequestBody Brand brand) {
         try {
@@ -28,13 +33,20 @@ public class BrandController {
         }
     }
     
+    // The brand version moves whenever one of its trucks changes
     @GetMapping("/{id}")
-    public Optional<Brand> getBrandById(@PathVariable Long id) {
+    public Optional<Brand> getBrandById(@PathVariable Long id, WebRequest request) {
+        if (CatalogueVersionService.notModified(request, "brand", catalogueVersions.brand(id))) {
+            return null;
+        }
         return brandService.getBrandById(id);
     }
     
     @GetMapping
-    public List<Brand> getAllBrands() {
+    public List<Brand> getAllBrands(WebRequest request) {
+        if (CatalogueVersionService.collectionNotModified(request, "brands", catalogueVersions.allBrands())) {
+            return null;
+        }
         return brandService.getAllBrands();
     }
 
@@ -51,7 +63,11 @@ public class BrandController {
     }
 
     @GetMapping("/vendor/{vendorId}")
-    public List<Brand> getBrandsByVendorId(@PathVariable Long vendorId) {
+    public List<Brand> getBrandsByVendorId(@PathVariable Long vendorId, WebRequest request) {
+        if (CatalogueVersionService.collectionNotModified(request, "vendor-brands-" + vendorId,
+                catalogueVersions.brandsOfVendor(vendorId))) {
+            return null;
+        }
         return brandService.getBrandsByVendorId(vendorId);
     }
 
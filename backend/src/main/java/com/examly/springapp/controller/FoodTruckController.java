@@ -4,12 +4,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.dto.FoodTruckCreationDTO;
+import com.examly.springapp.service.CatalogueVersionService;
 import com.examly.springapp.service.FoodTruckService;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/foodtrucks")
@@ -18,6 +21,9 @@ public class FoodTruckController {
     @Autowired
     private FoodTruckService foodTruckService;
 
+    @Autowired
+    private CatalogueVersionService catalogueVersions;
+
     @PostMapping("/{brandId}")
     public ResponseEntity<FoodTruck> createFoodTruck(@PathVariable Long brandId, @RequestBody FoodTruckCreationDTO creationDTO) {
         try {
@@ -28,20 +34,38 @@ public class FoodTruckController {
         }
     }
 
+    // Conditional GETs are answered from a version lookup, before the truck is loaded
     @GetMapping("/{id}")
-    public ResponseEntity<FoodTruck> getFoodTruckById(@PathVariable Long id) {
+    public ResponseEntity<FoodTruck> getFoodTruckById(@PathVariable Long id, WebRequest request) {
+        if (CatalogueVersionService.notModified(request, "truck", catalogueVersions.foodTruck(id))) {
+            return null;
+        }
         return foodTruckService.getFoodTruckById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // view=summary returns flat rows from a single projection query; view=full the cached entities.
+    // Each view has its own ETag, both following the same version.
     @GetMapping
-    public List<FoodTruck> getAllFoodTrucks() {
-        return foodTruckService.getAllFoodTrucks();
+    public ResponseEntity<?> getAllFoodTrucks(@RequestParam(defaultValue = "full") String view, WebRequest request) {
+        boolean summary = view.equalsIgnoreCase("summary");
+        if (!summary && !view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be summary or full"));
+        }
+        if (CatalogueVersionService.collectionNotModified(request, summary ? "truck-summaries" : "trucks",
+                catalogueVersions.allFoodTrucks())) {
+            return null;
+        }
+        return ResponseEntity.ok(summary ? foodTruckService.findAllSummaries() : foodTruckService.getAllFoodTrucks());
     }
 
+    // The brand version moves whenever one of its trucks changes
     @GetMapping("/brand/{brandId}")
-    public List<FoodTruck> getFoodTrucksByBrandId(@PathVariable Long brandId) {
+    public List<FoodTruck> getFoodTrucksByBrandId(@PathVariable Long brandId, WebRequest request) {
+        if (CatalogueVersionService.notModified(request, "brand-trucks", catalogueVersions.brand(brandId))) {
+            return null;
+        }
         return foodTruckService.getFoodTrucksByBrandId(brandId);
     }
 
@@ -1,10 +1,16 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.CursorPage;
 import com.examly.springapp.model.Inspection;
+import com.examly.springapp.service.ExportService;
 import com.examly.springapp.service.InspectionService;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -12,9 +18,11 @@ import java.util.Map;
 @RequestMapping("/api/inspections")
 public class InspectionController {
     private final InspectionService inspectionService;
+    private final ExportService exportService;
 
-    public InspectionController(InspectionService inspectionService) {
+    public InspectionController(InspectionService inspectionService, ExportService exportService) {
         this.inspectionService = inspectionService;
+        this.exportService = exportService;
     }
 
     @PostMapping
@@ -25,14 +33,40 @@ public class InspectionController {
     //used
     //get all inspections
     //called from adminapp
+    // view=summary returns flat rows from a single projection query; view=full the entities
     @GetMapping
-    public List<Inspection> getAll() {
-        return inspectionService.findAll();
+    public ResponseEntity<?> getAll(@RequestParam(defaultValue = "full") String view) {
+        if (view.equalsIgnoreCase("summary")) {
+            return ResponseEntity.ok(inspectionService.findAllSummaries());
+        }
+        if (!view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be summary or full"));
+        }
+        return ResponseEntity.ok(inspectionService.findAll());
+    }
+
+    // Streaming export for compliance pulls: format=ndjson|csv, optional result filter and [from, to) window on inspectionDate
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInspections(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String result,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            ExportService.Format exportFormat = ExportService.parseFormat(format);
+            Inspection.InspectionResult filter = result != null && !result.isEmpty()
+                    ? Inspection.InspectionResult.valueOf(result.toUpperCase())
+                    : null;
+            return ExportService.streamed("inspections", exportFormat,
+                    out -> exportService.exportInspections(filter, from, to, exportFormat, out));
+        } catch (IllegalArgumentException e) {
+            return exportService.badRequest(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Inspection> getById(@PathVariable Long id) {
-        return inspectionService.findById(id)
+        return inspectionService.findDetailById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -90,6 +124,37 @@ public class InspectionController {
         return ResponseEntity.ok(inspections);
     }
 
+    //paginated inspections for an inspector, optionally filtered by result
+    //paging=keyset (or an "after" cursor) returns a CursorPage instead of a Page and skips the count query
+    @GetMapping("/inspector/{inspectorId}/paginated")
+    public ResponseEntity<?> getInspectionsByInspectorPaginated(
+            @PathVariable Long inspectorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "inspectionDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String result,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String after) {
+        try {
+            Inspection.InspectionResult inspectionResult = result != null && !result.isEmpty()
+                    ? Inspection.InspectionResult.valueOf(result.toUpperCase())
+                    : null;
+
+            if (paging.equalsIgnoreCase("keyset") || after != null) {
+                CursorPage<Inspection> slice = inspectionService.findByInspectorIdByCursor(inspectorId,
+                        inspectionResult, after, size, sortBy, sortDirection);
+                return ResponseEntity.ok(slice);
+            }
+
+            Page<Inspection> inspections = inspectionService.findByInspectorIdPaginated(inspectorId,
+                    inspectionResult, page, size, sortBy, sortDirection);
+            return ResponseEntity.ok(inspections);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     //used
     //get inspector statistics
     //called from inspectorapp
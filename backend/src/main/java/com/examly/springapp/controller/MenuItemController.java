@@ -1,14 +1,23 @@
 package com.examly.springapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.examly.springapp.dto.MenuImportResult;
 import com.examly.springapp.model.MenuItem;
+import com.examly.springapp.service.CatalogueVersionService;
+import com.examly.springapp.service.MenuItemImportService;
 import com.examly.springapp.service.MenuItemService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/menuitems")
@@ -17,6 +26,12 @@ public class MenuItemController {
     @Autowired
     private MenuItemService menuItemService;
 
+    @Autowired
+    private MenuItemImportService menuItemImportService;
+
+    @Autowired
+    private CatalogueVersionService catalogueVersions;
+
     @PostMapping("/{foodTruckId}")
     public ResponseEntity<MenuItem> createMenuItem(@PathVariable Long foodTruckId, @RequestBody MenuItem menuItem) {
         try {
@@ -39,19 +54,29 @@ public class MenuItemController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<MenuItem> getMenuItemById(@PathVariable Long id) {
+    public ResponseEntity<MenuItem> getMenuItemById(@PathVariable Long id, WebRequest request) {
+        if (CatalogueVersionService.notModified(request, "menuitem", catalogueVersions.menuItem(id))) {
+            return null;
+        }
         return menuItemService.getMenuItemById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    public List<MenuItem> getAllMenuItems() {
+    public List<MenuItem> getAllMenuItems(WebRequest request) {
+        if (CatalogueVersionService.collectionNotModified(request, "menuitems", catalogueVersions.allMenuItems())) {
+            return null;
+        }
         return menuItemService.getAllMenuItems();
     }
 
+    // The truck version moves whenever its menu changes
     @GetMapping("/foodtruck/{foodTruckId}")
-    public List<MenuItem> getMenuItemsByFoodTruckId(@PathVariable Long foodTruckId) {
+    public List<MenuItem> getMenuItemsByFoodTruckId(@PathVariable Long foodTruckId, WebRequest request) {
+        if (CatalogueVersionService.notModified(request, "truck-menu", catalogueVersions.foodTruck(foodTruckId))) {
+            return null;
+        }
         return menuItemService.getMenuItemsByTruckId(foodTruckId);
     }
 
@@ -92,4 +117,24 @@ public class MenuItemController {
         List<MenuItem> savedItems = menuItemService.saveAllMenuItems(foodTruckId, menuItems);
         return new ResponseEntity<>(savedItems, HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    // Streaming import for large catalogues: send NDJSON (one item per line) or CSV with a header line.
+    // Invalid rows are skipped and reported, valid rows are saved a chunk at a time; a chunk the database
+    // rejects is reported row by row, and the chunks saved before a body that breaks off are kept.
+    @PostMapping(value = "/import/{foodTruckId}", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<?> importMenuItems(@PathVariable Long foodTruckId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        MenuItemImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? MenuItemImportService.Format.CSV
+                : MenuItemImportService.Format.NDJSON;
+        try {
+            MenuImportResult result = menuItemImportService.importMenuItems(foodTruckId, body, format);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Could not read request body: " + e.getMessage()));
+        }
+    }
+}
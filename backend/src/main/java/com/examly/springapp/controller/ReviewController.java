@@ -1,13 +1,18 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.CursorPage;
 import com.examly.springapp.model.Application;
 import com.examly.springapp.model.Review;
+import com.examly.springapp.service.ExportService;
 import com.examly.springapp.service.ReviewService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -15,19 +20,47 @@ import java.util.Map;
 @RequestMapping("/api/reviews")
 public class ReviewController {
     private final ReviewService reviewService;
+    private final ExportService exportService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ExportService exportService) {
         this.reviewService = reviewService;
+        this.exportService = exportService;
     }
 
+    // view=summary returns flat rows from a single projection query; view=full the entities
     @GetMapping
-    public List<Review> getAll() {
-        return reviewService.findAll();
+    public ResponseEntity<?> getAll(@RequestParam(defaultValue = "full") String view) {
+        if (view.equalsIgnoreCase("summary")) {
+            return ResponseEntity.ok(reviewService.findAllSummaries());
+        }
+        if (!view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be summary or full"));
+        }
+        return ResponseEntity.ok(reviewService.findAll());
+    }
+
+    // Streaming export for compliance pulls: format=ndjson|csv, optional status filter and [from, to) window on reviewDate
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            ExportService.Format exportFormat = ExportService.parseFormat(format);
+            Review.ReviewStatus filter = status != null && !status.isEmpty()
+                    ? Review.ReviewStatus.valueOf(status.toUpperCase())
+                    : null;
+            return ExportService.streamed("reviews", exportFormat,
+                    out -> exportService.exportReviews(filter, from, to, exportFormat, out));
+        } catch (IllegalArgumentException e) {
+            return exportService.badRequest(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Review> getById(@PathVariable Long id) {
-        return reviewService.findById(id)
+        return reviewService.findDetailById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -35,14 +68,30 @@ public class ReviewController {
     //used
     //get all reviews for a reviewer based on approved or rejected(not pending)
     //from reviewer app
+    //paging=keyset (or an "after" cursor) returns a CursorPage instead of a Page and skips the count query
     @GetMapping("/reviewer/{reviewerId}/paginated")
-    public ResponseEntity<Page<Review>> getReviewsByReviewerPaginated(
+    public ResponseEntity<?> getReviewsByReviewerPaginated(
             @PathVariable Long reviewerId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "reviewDate") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDirection,
-            @RequestParam(required = false) String status) { //approved or rejected
+            @RequestParam(required = false) String status, //approved or rejected
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String after) {
+
+        if (paging.equalsIgnoreCase("keyset") || after != null) {
+            try {
+                Review.ReviewStatus reviewStatus = status != null && !status.isEmpty()
+                        ? Review.ReviewStatus.valueOf(status.toUpperCase())
+                        : null;
+                CursorPage<Review> slice = reviewService.findByReviewerIdByCursor(reviewerId, reviewStatus, after,
+                        size, sortBy, sortDirection);
+                return ResponseEntity.ok(slice);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+        }
         
         Page<Review> reviews;
         
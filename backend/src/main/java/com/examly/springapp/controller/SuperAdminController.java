@@ -2,15 +2,13 @@ package com.examly.springapp.controller;
 
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.Vendor;
-import com.examly.springapp.model.Application;
-import com.examly.springapp.model.Inspection;
-import com.examly.springapp.model.Review;
 import com.examly.springapp.service.UserService;
 import com.examly.springapp.service.VendorService;
-import com.examly.springapp.service.ApplicationService;
-import com.examly.springapp.service.InspectionService;
-import com.examly.springapp.service.ReviewService;
-import com.examly.springapp.service.FoodTruckService;
+import com.examly.springapp.service.DashboardCounterRegistry;
+import com.examly.springapp.service.DashboardStatsService;
+import com.examly.springapp.service.CatalogueCacheService;
+import com.examly.springapp.service.SecondLevelCacheService;
+import com.examly.springapp.service.SystemMetricsService;
 import com.examly.springapp.exception.UserNotFoundException;
 import com.examly.springapp.exception.DuplicateUserEmailException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,111 +32,63 @@ public class SuperAdminController {
     private VendorService vendorService;
 
     @Autowired
-    private ApplicationService applicationService;
+    private DashboardStatsService dashboardStatsService;
 
     @Autowired
-    private InspectionService inspectionService;
+    private DashboardCounterRegistry dashboardCounters;
 
     @Autowired
-    private ReviewService reviewService;
+    private SecondLevelCacheService secondLevelCacheService;
 
     @Autowired
-    private FoodTruckService foodTruckService;
+    private CatalogueCacheService catalogueCacheService;
+
+    @Autowired
+    private SystemMetricsService systemMetricsService;
 
     // Enhanced dashboard statistics endpoint with analytics
     @GetMapping("/dashboard/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        // User counts by role
-        long totalAdmins = userService.findByRole(User.Role.ADMIN).size();
-        long totalInspectors = userService.findByRole(User.Role.INSPECTOR).size();
-        long totalReviewers = userService.findByRole(User.Role.REVIEWER).size();
-        long totalVendors = vendorService.getAllVendors().size();
-        long totalUsers = totalAdmins + totalInspectors + totalReviewers + totalVendors;
-
-        stats.put("totalUsers", totalUsers);
-        stats.put("totalAdmins", totalAdmins);
-        stats.put("totalInspectors", totalInspectors);
-        stats.put("totalReviewers", totalReviewers);
-        stats.put("totalVendors", totalVendors);
-        
-        // Application statistics
-        List<Application> allApplications = applicationService.findAll();
-        long totalApplications = allApplications.size();
-        long submittedApplications = allApplications.stream()
-                .filter(app -> app.getStatus() == Application.ApplicationStatus.SUBMITTED)
-                .count();
-        long approvedApplications = allApplications.stream()
-                .filter(app -> app.getStatus() == Application.ApplicationStatus.APPROVED)
-                .count();
-        long rejectedApplications = allApplications.stream()
-                .filter(app -> app.getStatus() == Application.ApplicationStatus.REJECTED)
-                .count();
-        
-        stats.put("totalApplications", totalApplications);
-        stats.put("submittedApplications", submittedApplications);
-        stats.put("approvedApplications", approvedApplications);
-        stats.put("rejectedApplications", rejectedApplications);
-        
-        // Food truck statistics
-        long totalFoodTrucks = foodTruckService.getAllFoodTrucks().size();
-        stats.put("totalFoodTrucks", totalFoodTrucks);
-        
-        // Inspection statistics
-        List<Inspection> allInspections = inspectionService.findAll();
-        long totalInspections = allInspections.size();
-        long passedInspections = inspectionService.findByResult(Inspection.InspectionResult.PASS).size();
-        long failedInspections = inspectionService.findByResult(Inspection.InspectionResult.FAIL).size();
-        long pendingInspections = allInspections.stream()
-                .filter(inspection -> inspection.getResult() == null || 
-                       inspection.getResult() == Inspection.InspectionResult.IN_PROGRESS)
-                .count();
-        
-        stats.put("totalInspections", totalInspections);
-        stats.put("passedInspections", passedInspections);
-        stats.put("failedInspections", failedInspections);
-        stats.put("pendingInspections", pendingInspections);
-        
-        // Review statistics
-        List<Review> allReviews = reviewService.findAll();
-        long totalReviews = allReviews.size();
-        long approvedReviews = allReviews.stream()
-                .filter(review -> review.getReviewStatus() == Review.ReviewStatus.APPROVED)
-                .count();
-        long rejectedReviews = allReviews.stream()
-                .filter(review -> review.getReviewStatus() == Review.ReviewStatus.REJECTED)
-                .count();
-        long pendingReviews = allReviews.stream()
-                .filter(review -> review.getReviewStatus() == null || 
-                       review.getReviewStatus() == Review.ReviewStatus.IN_PROGRESS)
-                .count();
-        
-        stats.put("totalReviews", totalReviews);
-        stats.put("approvedReviews", approvedReviews);
-        stats.put("rejectedReviews", rejectedReviews);
-        stats.put("pendingReviews", pendingReviews);
-        
-        // Calculate success rates
-        double applicationApprovalRate = totalApplications > 0 ? 
-                (approvedApplications * 100.0) / totalApplications : 0.0;
-        double inspectionPassRate = totalInspections > 0 ? 
-                (passedInspections * 100.0) / totalInspections : 0.0;
-        double reviewApprovalRate = totalReviews > 0 ? 
-                (approvedReviews * 100.0) / totalReviews : 0.0;
-        
-        stats.put("applicationApprovalRate", Math.round(applicationApprovalRate * 10.0) / 10.0);
-        stats.put("inspectionPassRate", Math.round(inspectionPassRate * 10.0) / 10.0);
-        stats.put("reviewApprovalRate", Math.round(reviewApprovalRate * 10.0) / 10.0);
-        
-        // Mock data for system performance (can be replaced with actual monitoring)
-        stats.put("activeSessions", 42);
-        stats.put("systemHealth", 98);
-        stats.put("securityAlerts", 3);
+        Map<String, Object> stats = dashboardStatsService.getDashboardStats();
+        addSystemStats(stats);
+        return ResponseEntity.ok(stats);
+    }
 
+    // Same payload as /dashboard/stats, served from the in-memory counters
+    @GetMapping("/dashboard/snapshot")
+    public ResponseEntity<Map<String, Object>> getDashboardSnapshot() {
+        Map<String, Object> stats = dashboardCounters.snapshot();
+        addSystemStats(stats);
         return ResponseEntity.ok(stats);
     }
 
+    // Hibernate second-level and query cache hit/miss statistics
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheService.getStatistics());
+    }
+
+    // Per-cache statistics of the public food truck and menu read cache
+    @GetMapping("/cache/catalogue/stats")
+    public ResponseEntity<Map<String, Object>> getCatalogueCacheStats() {
+        return ResponseEntity.ok(catalogueCacheService.getStatistics());
+    }
+
+    // Drop all cached entities, query results and catalogue reads, e.g. after editing the database by hand
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> evictCaches() {
+        secondLevelCacheService.evictAll();
+        catalogueCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    private void addSystemStats(Map<String, Object> stats) {
+        stats.put("activeSessions", systemMetricsService.activeRequests());
+        stats.put("systemHealth", systemMetricsService.systemHealth());
+        // Mock data, there is no security event source yet
+        stats.put("securityAlerts", 3);
+    }
+
     // Get all users (excluding super admin) for user management
     @GetMapping("/users")
     public ResponseEntity<Map<String, Object>> getAllUsersAndVendors() {
@@ -45,9 +45,17 @@ public class UserController {
         }
     }
     
+    // view=summary leaves out the password
+    // view=summary returns flat rows from a single projection query; view=full the entities
     @GetMapping
-    public List<User> getAll() {
-        return userService.findAll();
+    public ResponseEntity<?> getAll(@RequestParam(defaultValue = "full") String view) {
+        if (view.equalsIgnoreCase("summary")) {
+            return ResponseEntity.ok(userService.findAllSummaries());
+        }
+        if (!view.equalsIgnoreCase("full")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "view must be summary or full"));
+        }
+        return ResponseEntity.ok(userService.findAll());
     }
 
     @GetMapping("/{id}")
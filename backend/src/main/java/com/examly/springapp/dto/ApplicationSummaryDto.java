@@ -0,0 +1,67 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Review;
+import java.time.LocalDateTime;
+
+// Flat application row for list views: no documents, truck menu or review graph
+public class ApplicationSummaryDto {
+    private Long id;
+    private LocalDateTime submissionDate;
+    private Application.ApplicationStatus status;
+    private Long foodTruckId;
+    private String brandName;
+    private Long vendorId;
+    private String vendorName;
+    private Long reviewId;
+    private Review.ReviewStatus reviewStatus;
+    private String reviewerName;
+
+    public ApplicationSummaryDto() {}
+
+    public ApplicationSummaryDto(Long id, LocalDateTime submissionDate, Application.ApplicationStatus status,
+                                 Long foodTruckId, String brandName, Long vendorId, String vendorName,
+                                 Long reviewId, Review.ReviewStatus reviewStatus, String reviewerName) {
+        this.id = id;
+        this.submissionDate = submissionDate;
+        this.status = status;
+        this.foodTruckId = foodTruckId;
+        this.brandName = brandName;
+        this.vendorId = vendorId;
+        this.vendorName = vendorName;
+        this.reviewId = reviewId;
+        this.reviewStatus = reviewStatus;
+        this.reviewerName = reviewerName;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getSubmissionDate() { return submissionDate; }
+    public void setSubmissionDate(LocalDateTime submissionDate) { this.submissionDate = submissionDate; }
+
+    public Application.ApplicationStatus getStatus() { return status; }
+    public void setStatus(Application.ApplicationStatus status) { this.status = status; }
+
+    public Long getFoodTruckId() { return foodTruckId; }
+    public void setFoodTruckId(Long foodTruckId) { this.foodTruckId = foodTruckId; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public Long getVendorId() { return vendorId; }
+    public void setVendorId(Long vendorId) { this.vendorId = vendorId; }
+
+    public String getVendorName() { return vendorName; }
+    public void setVendorName(String vendorName) { this.vendorName = vendorName; }
+
+    public Long getReviewId() { return reviewId; }
+    public void setReviewId(Long reviewId) { this.reviewId = reviewId; }
+
+    public Review.ReviewStatus getReviewStatus() { return reviewStatus; }
+    public void setReviewStatus(Review.ReviewStatus reviewStatus) { this.reviewStatus = reviewStatus; }
+
+    public String getReviewerName() { return reviewerName; }
+    public void setReviewerName(String reviewerName) { this.reviewerName = reviewerName; }
+}
@@ -0,0 +1,28 @@
+package com.examly.springapp.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Body of a bulk application status transition: every listed id, or without ids every application
+// in the "from" status (optionally only those submitted before submittedBefore), moves from "from" to "to"
+public class BulkStatusTransitionRequest {
+    private List<Long> ids;
+    private String from;
+    private String to;
+    private LocalDateTime submittedBefore;
+
+    public BulkStatusTransitionRequest() {}
+
+    // Getters and setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public String getFrom() { return from; }
+    public void setFrom(String from) { this.from = from; }
+
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+
+    public LocalDateTime getSubmittedBefore() { return submittedBefore; }
+    public void setSubmittedBefore(LocalDateTime submittedBefore) { this.submittedBefore = submittedBefore; }
+}
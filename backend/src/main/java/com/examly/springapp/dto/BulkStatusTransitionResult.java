@@ -0,0 +1,41 @@
+package com.examly.springapp.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.examly.springapp.model.Application;
+
+// Outcome of a bulk application status transition, per id in the order they were processed
+public class BulkStatusTransitionResult {
+
+    public enum Outcome { UPDATED, STATUS_MISMATCH, NOT_FOUND }
+
+    private final Application.ApplicationStatus from;
+    private final Application.ApplicationStatus to;
+    private long updated;
+    private boolean moreMatching;
+    private final Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+
+    public BulkStatusTransitionResult(Application.ApplicationStatus from, Application.ApplicationStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public void record(Long id, Outcome outcome) {
+        outcomes.put(id, outcome);
+        if (outcome == Outcome.UPDATED) {
+            updated++;
+        }
+    }
+
+    // A filter matched more applications than one request transitions; repeating it continues
+    public void setMoreMatching(boolean moreMatching) { this.moreMatching = moreMatching; }
+
+    // Getters
+    public Application.ApplicationStatus getFrom() { return from; }
+    public Application.ApplicationStatus getTo() { return to; }
+    public long getRequested() { return outcomes.size(); }
+    public long getUpdated() { return updated; }
+    public boolean isMoreMatching() { return moreMatching; }
+    public Map<Long, Outcome> getOutcomes() { return outcomes; }
+}
@@ -0,0 +1,37 @@
+package com.examly.springapp.dto;
+
+import java.util.List;
+
+// A slice of a keyset-paginated listing; pass nextCursor back as "after" to fetch the next slice.
+// Not a Spring Data Slice: a Slice is positioned by a page number and Pageable, which a cursor walk has
+// none of, and SliceImpl serialises them; this keeps the JSON to what a client needs to continue.
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public int getNumberOfElements() { return content != null ? content.size() : 0; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,49 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Application;
+
+// Flat truck row for list views: no menu, applications or brand graph
+public class FoodTruckSummaryDto {
+    private Long id;
+    private Long brandId;
+    private String brandName;
+    private String operatingRegion;
+    private String location;
+    private String cuisineSpecialties;
+    private Application.ApplicationStatus applicationStatus;
+
+    public FoodTruckSummaryDto() {}
+
+    public FoodTruckSummaryDto(Long id, Long brandId, String brandName, String operatingRegion, String location,
+                               String cuisineSpecialties, Application.ApplicationStatus applicationStatus) {
+        this.id = id;
+        this.brandId = brandId;
+        this.brandName = brandName;
+        this.operatingRegion = operatingRegion;
+        this.location = location;
+        this.cuisineSpecialties = cuisineSpecialties;
+        this.applicationStatus = applicationStatus;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getBrandId() { return brandId; }
+    public void setBrandId(Long brandId) { this.brandId = brandId; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public String getOperatingRegion() { return operatingRegion; }
+    public void setOperatingRegion(String operatingRegion) { this.operatingRegion = operatingRegion; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public String getCuisineSpecialties() { return cuisineSpecialties; }
+    public void setCuisineSpecialties(String cuisineSpecialties) { this.cuisineSpecialties = cuisineSpecialties; }
+
+    public Application.ApplicationStatus getApplicationStatus() { return applicationStatus; }
+    public void setApplicationStatus(Application.ApplicationStatus applicationStatus) { this.applicationStatus = applicationStatus; }
+}
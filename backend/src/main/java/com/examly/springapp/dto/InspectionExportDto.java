@@ -0,0 +1,77 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Inspection;
+import java.time.LocalDateTime;
+
+// Flat inspection row for exports, with the food truck fields of ApplicationWithDetailsDto
+public class InspectionExportDto {
+    private Long id;
+    private LocalDateTime inspectionDate;
+    private Inspection.InspectionResult result;
+    private Long foodTruckId;
+    private String foodTruckLocation;
+    private String operatingRegion;
+    private String cuisineSpecialties;
+    private String brandName;
+    private String vendorName;
+    private String vendorEmail;
+    private Long inspectorId;
+    private String inspectorName;
+
+    public InspectionExportDto() {}
+
+    public InspectionExportDto(Long id, LocalDateTime inspectionDate, Inspection.InspectionResult result,
+                               Long foodTruckId, String foodTruckLocation, String operatingRegion,
+                               String cuisineSpecialties, String brandName, String vendorName, String vendorEmail,
+                               Long inspectorId, String inspectorName) {
+        this.id = id;
+        this.inspectionDate = inspectionDate;
+        this.result = result;
+        this.foodTruckId = foodTruckId;
+        this.foodTruckLocation = foodTruckLocation;
+        this.operatingRegion = operatingRegion;
+        this.cuisineSpecialties = cuisineSpecialties;
+        this.brandName = brandName;
+        this.vendorName = vendorName;
+        this.vendorEmail = vendorEmail;
+        this.inspectorId = inspectorId;
+        this.inspectorName = inspectorName;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getInspectionDate() { return inspectionDate; }
+    public void setInspectionDate(LocalDateTime inspectionDate) { this.inspectionDate = inspectionDate; }
+
+    public Inspection.InspectionResult getResult() { return result; }
+    public void setResult(Inspection.InspectionResult result) { this.result = result; }
+
+    public Long getFoodTruckId() { return foodTruckId; }
+    public void setFoodTruckId(Long foodTruckId) { this.foodTruckId = foodTruckId; }
+
+    public String getFoodTruckLocation() { return foodTruckLocation; }
+    public void setFoodTruckLocation(String foodTruckLocation) { this.foodTruckLocation = foodTruckLocation; }
+
+    public String getOperatingRegion() { return operatingRegion; }
+    public void setOperatingRegion(String operatingRegion) { this.operatingRegion = operatingRegion; }
+
+    public String getCuisineSpecialties() { return cuisineSpecialties; }
+    public void setCuisineSpecialties(String cuisineSpecialties) { this.cuisineSpecialties = cuisineSpecialties; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public String getVendorName() { return vendorName; }
+    public void setVendorName(String vendorName) { this.vendorName = vendorName; }
+
+    public String getVendorEmail() { return vendorEmail; }
+    public void setVendorEmail(String vendorEmail) { this.vendorEmail = vendorEmail; }
+
+    public Long getInspectorId() { return inspectorId; }
+    public void setInspectorId(Long inspectorId) { this.inspectorId = inspectorId; }
+
+    public String getInspectorName() { return inspectorName; }
+    public void setInspectorName(String inspectorName) { this.inspectorName = inspectorName; }
+}
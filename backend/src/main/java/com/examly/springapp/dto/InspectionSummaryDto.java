@@ -0,0 +1,50 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Inspection;
+import java.time.LocalDateTime;
+
+// Flat inspection row for list views: no truck menu or inspector account
+public class InspectionSummaryDto {
+    private Long id;
+    private LocalDateTime inspectionDate;
+    private Inspection.InspectionResult result;
+    private Long foodTruckId;
+    private String brandName;
+    private Long inspectorId;
+    private String inspectorName;
+
+    public InspectionSummaryDto() {}
+
+    public InspectionSummaryDto(Long id, LocalDateTime inspectionDate, Inspection.InspectionResult result,
+                                Long foodTruckId, String brandName, Long inspectorId, String inspectorName) {
+        this.id = id;
+        this.inspectionDate = inspectionDate;
+        this.result = result;
+        this.foodTruckId = foodTruckId;
+        this.brandName = brandName;
+        this.inspectorId = inspectorId;
+        this.inspectorName = inspectorName;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getInspectionDate() { return inspectionDate; }
+    public void setInspectionDate(LocalDateTime inspectionDate) { this.inspectionDate = inspectionDate; }
+
+    public Inspection.InspectionResult getResult() { return result; }
+    public void setResult(Inspection.InspectionResult result) { this.result = result; }
+
+    public Long getFoodTruckId() { return foodTruckId; }
+    public void setFoodTruckId(Long foodTruckId) { this.foodTruckId = foodTruckId; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public Long getInspectorId() { return inspectorId; }
+    public void setInspectorId(Long inspectorId) { this.inspectorId = inspectorId; }
+
+    public String getInspectorName() { return inspectorName; }
+    public void setInspectorName(String inspectorName) { this.inspectorName = inspectorName; }
+}
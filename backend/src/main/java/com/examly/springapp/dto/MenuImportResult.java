@@ -0,0 +1,50 @@
+package com.examly.springapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a streaming menu import; only the first maxErrors row errors are kept
+public class MenuImportResult {
+    private long importedRows;
+    private long failedRows;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    private final int maxErrors;
+
+    public MenuImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void rowImported() {
+        importedRows++;
+    }
+
+    public void rowFailed(long line, String message) {
+        failedRows++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Getters
+    public long getImportedRows() { return importedRows; }
+    public long getFailedRows() { return failedRows; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public List<RowError> getErrors() { return errors; }
+
+    public static class RowError {
+        private long line;
+        private String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,94 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Review;
+import java.time.LocalDateTime;
+
+// Flat review row for exports, with the application fields of ApplicationWithDetailsDto
+public class ReviewExportDto {
+    private Long id;
+    private LocalDateTime reviewDate;
+    private Review.ReviewStatus reviewStatus;
+    private Long reviewerId;
+    private String reviewerName;
+    private Long applicationId;
+    private LocalDateTime submissionDate;
+    private Application.ApplicationStatus applicationStatus;
+    private Long foodTruckId;
+    private String foodTruckLocation;
+    private String operatingRegion;
+    private String cuisineSpecialties;
+    private String brandName;
+    private String vendorName;
+    private String vendorEmail;
+
+    public ReviewExportDto() {}
+
+    public ReviewExportDto(Long id, LocalDateTime reviewDate, Review.ReviewStatus reviewStatus,
+                           Long reviewerId, String reviewerName, Long applicationId, LocalDateTime submissionDate,
+                           Application.ApplicationStatus applicationStatus, Long foodTruckId, String foodTruckLocation,
+                           String operatingRegion, String cuisineSpecialties, String brandName, String vendorName,
+                           String vendorEmail) {
+        this.id = id;
+        this.reviewDate = reviewDate;
+        this.reviewStatus = reviewStatus;
+        this.reviewerId = reviewerId;
+        this.reviewerName = reviewerName;
+        this.applicationId = applicationId;
+        this.submissionDate = submissionDate;
+        this.applicationStatus = applicationStatus;
+        this.foodTruckId = foodTruckId;
+        this.foodTruckLocation = foodTruckLocation;
+        this.operatingRegion = operatingRegion;
+        this.cuisineSpecialties = cuisineSpecialties;
+        this.brandName = brandName;
+        this.vendorName = vendorName;
+        this.vendorEmail = vendorEmail;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getReviewDate() { return reviewDate; }
+    public void setReviewDate(LocalDateTime reviewDate) { this.reviewDate = reviewDate; }
+
+    public Review.ReviewStatus getReviewStatus() { return reviewStatus; }
+    public void setReviewStatus(Review.ReviewStatus reviewStatus) { this.reviewStatus = reviewStatus; }
+
+    public Long getReviewerId() { return reviewerId; }
+    public void setReviewerId(Long reviewerId) { this.reviewerId = reviewerId; }
+
+    public String getReviewerName() { return reviewerName; }
+    public void setReviewerName(String reviewerName) { this.reviewerName = reviewerName; }
+
+    public Long getApplicationId() { return applicationId; }
+    public void setApplicationId(Long applicationId) { this.applicationId = applicationId; }
+
+    public LocalDateTime getSubmissionDate() { return submissionDate; }
+    public void setSubmissionDate(LocalDateTime submissionDate) { this.submissionDate = submissionDate; }
+
+    public Application.ApplicationStatus getApplicationStatus() { return applicationStatus; }
+    public void setApplicationStatus(Application.ApplicationStatus applicationStatus) { this.applicationStatus = applicationStatus; }
+
+    public Long getFoodTruckId() { return foodTruckId; }
+    public void setFoodTruckId(Long foodTruckId) { this.foodTruckId = foodTruckId; }
+
+    public String getFoodTruckLocation() { return foodTruckLocation; }
+    public void setFoodTruckLocation(String foodTruckLocation) { this.foodTruckLocation = foodTruckLocation; }
+
+    public String getOperatingRegion() { return operatingRegion; }
+    public void setOperatingRegion(String operatingRegion) { this.operatingRegion = operatingRegion; }
+
+    public String getCuisineSpecialties() { return cuisineSpecialties; }
+    public void setCuisineSpecialties(String cuisineSpecialties) { this.cuisineSpecialties = cuisineSpecialties; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public String getVendorName() { return vendorName; }
+    public void setVendorName(String vendorName) { this.vendorName = vendorName; }
+
+    public String getVendorEmail() { return vendorEmail; }
+    public void setVendorEmail(String vendorEmail) { this.vendorEmail = vendorEmail; }
+}
@@ -0,0 +1,62 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Review;
+import java.time.LocalDateTime;
+
+// Flat review row for list views: no application graph or reviewer account
+public class ReviewSummaryDto {
+    private Long id;
+    private LocalDateTime reviewDate;
+    private Review.ReviewStatus reviewStatus;
+    private Long applicationId;
+    private Application.ApplicationStatus applicationStatus;
+    private Long foodTruckId;
+    private String brandName;
+    private Long reviewerId;
+    private String reviewerName;
+
+    public ReviewSummaryDto() {}
+
+    public ReviewSummaryDto(Long id, LocalDateTime reviewDate, Review.ReviewStatus reviewStatus,
+                            Long applicationId, Application.ApplicationStatus applicationStatus, Long foodTruckId,
+                            String brandName, Long reviewerId, String reviewerName) {
+        this.id = id;
+        this.reviewDate = reviewDate;
+        this.reviewStatus = reviewStatus;
+        this.applicationId = applicationId;
+        this.applicationStatus = applicationStatus;
+        this.foodTruckId = foodTruckId;
+        this.brandName = brandName;
+        this.reviewerId = reviewerId;
+        this.reviewerName = reviewerName;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getReviewDate() { return reviewDate; }
+    public void setReviewDate(LocalDateTime reviewDate) { this.reviewDate = reviewDate; }
+
+    public Review.ReviewStatus getReviewStatus() { return reviewStatus; }
+    public void setReviewStatus(Review.ReviewStatus reviewStatus) { this.reviewStatus = reviewStatus; }
+
+    public Long getApplicationId() { return applicationId; }
+    public void setApplicationId(Long applicationId) { this.applicationId = applicationId; }
+
+    public Application.ApplicationStatus getApplicationStatus() { return applicationStatus; }
+    public void setApplicationStatus(Application.ApplicationStatus applicationStatus) { this.applicationStatus = applicationStatus; }
+
+    public Long getFoodTruckId() { return foodTruckId; }
+    public void setFoodTruckId(Long foodTruckId) { this.foodTruckId = foodTruckId; }
+
+    public String getBrandName() { return brandName; }
+    public void setBrandName(String brandName) { this.brandName = brandName; }
+
+    public Long getReviewerId() { return reviewerId; }
+    public void setReviewerId(Long reviewerId) { this.reviewerId = reviewerId; }
+
+    public String getReviewerName() { return reviewerName; }
+    public void setReviewerName(String reviewerName) { this.reviewerName = reviewerName; }
+}
@@ -0,0 +1,29 @@
+package com.examly.springapp.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Outcome of one run of the reviewer assignment engine; only committed batches are counted
+public class ReviewerAssignmentResult {
+    private long assigned;
+    private int batches;
+    private int conflictingBatches;
+    private Map<Long, Long> assignedPerReviewer = new LinkedHashMap<>();
+
+    public void batchCommitted(Map<Long, Long> reviewerByApplication) {
+        batches++;
+        assigned += reviewerByApplication.size();
+        reviewerByApplication.values().forEach(reviewerId -> assignedPerReviewer.merge(reviewerId, 1L, Long::sum));
+    }
+
+    // A batch rolled back because one of its applications got a review elsewhere first
+    public void batchConflicted() {
+        conflictingBatches++;
+    }
+
+    // Getters
+    public long getAssigned() { return assigned; }
+    public int getBatches() { return batches; }
+    public int getConflictingBatches() { return conflictingBatches; }
+    public Map<Long, Long> getAssignedPerReviewer() { return assignedPerReviewer; }
+}
@@ -0,0 +1,33 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.User;
+
+// User row for list views, without the password
+public class UserSummaryDto {
+    private Long id;
+    private String name;
+    private String email;
+    private User.Role role;
+
+    public UserSummaryDto() {}
+
+    public UserSummaryDto(Long id, String name, String email, User.Role role) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.role = role;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public User.Role getRole() { return role; }
+    public void setRole(User.Role role) { this.role = role; }
+}
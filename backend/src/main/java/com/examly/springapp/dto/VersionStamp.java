@@ -0,0 +1,51 @@
+package com.examly.springapp.dto;
+
+import java.time.LocalDateTime;
+
+// Version of a resource or a collection, read without loading the entities; used for ETags
+public class VersionStamp {
+    private String tag;
+    private LocalDateTime lastModified;
+
+    public VersionStamp() {}
+
+    // A single row
+    public VersionStamp(Long id, Long version, LocalDateTime lastModified) {
+        this.tag = id + "v" + version;
+        this.lastModified = lastModified;
+    }
+
+    // A collection: count and id sum change on inserts and deletes, the version sum on updates
+    public VersionStamp(Long count, Long idSum, Long versionSum, LocalDateTime lastModified) {
+        this.tag = count + "-" + (idSum != null ? idSum : 0) + "-" + (versionSum != null ? versionSum : 0);
+        this.lastModified = lastModified;
+    }
+
+    // A row or collection whose JSON also shows the status of the applications counted: their number
+    // moves on inserts and deletes, their latest updatedAt on every status change
+    public VersionStamp(Long id, Long version, LocalDateTime lastModified, Long applications,
+                        LocalDateTime applicationsUpdatedAt) {
+        this(id, version, lastModified);
+        withApplications(applications, applicationsUpdatedAt);
+    }
+
+    public VersionStamp(Long count, Long idSum, Long versionSum, LocalDateTime lastModified, Long applications,
+                        LocalDateTime applicationsUpdatedAt) {
+        this(count, idSum, versionSum, lastModified);
+        withApplications(applications, applicationsUpdatedAt);
+    }
+
+    private void withApplications(Long applications, LocalDateTime applicationsUpdatedAt) {
+        this.tag += "-a" + applications + (applicationsUpdatedAt != null ? "@" + applicationsUpdatedAt : "");
+        if (applicationsUpdatedAt != null && (lastModified == null || applicationsUpdatedAt.isAfter(lastModified))) {
+            this.lastModified = applicationsUpdatedAt;
+        }
+    }
+
+    // Getters and setters
+    public String getTag() { return tag; }
+    public void setTag(String tag) { this.tag = tag; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
+}
@@ -4,20 +4,46 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "applications")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+// Fetch plans: the to-one paths the JSON shows are joined; documents and menus of a list are batch-loaded
+@NamedEntityGraph(name = Application.LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("foodTruck"),
+                @NamedAttributeNode("vendor"),
+                @NamedAttributeNode(value = "review", subgraph = "review")
+        },
+        subgraphs = @NamedSubgraph(name = "review", attributeNodes = @NamedAttributeNode("reviewer")))
+@NamedEntityGraph(name = Application.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("foodTruck"),
+                @NamedAttributeNode("vendor"),
+                @NamedAttributeNode(value = "review", subgraph = "review"),
+                @NamedAttributeNode("documents")
+        },
+        subgraphs = @NamedSubgraph(name = "review", attributeNodes = @NamedAttributeNode("reviewer")))
 public class Application {
+    public static final String LIST_GRAPH = "Application.list";
+    public static final String DETAIL_GRAPH = "Application.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
     @JoinColumn(name = "food_truck_id")
-    @JsonIgnoreProperties({"applications"}) // Prevent circular reference if FoodTruck has applications list
+    // No circular applications list; the truck's status is this application's own and read when the truck
+    // loads, so it would be stale in the response to a status change
+    @JsonIgnoreProperties({"applications", "applicationStatus"})
     private FoodTruck foodTruck;
 
     @ManyToOne
@@ -26,9 +52,18 @@ public class Application {
 
     private LocalDateTime submissionDate;
 
+    // varchar as in the migrations, not MySQL's native ENUM, so a new status needs no column change
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private ApplicationStatus status;
 
+    // Moves with every write, also the bulk status UPDATEs; the ETags of the truck and brand that show this
+    // application's status follow it, see FoodTruckRepository.findVersionStampById
+    @UpdateTimestamp
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference("application-documents")
     private List<Document> documents;
@@ -37,6 +72,11 @@ public class Application {
     @JsonIgnoreProperties({"application"}) // Prevent circular reference
     private Review review;
 
+    // Status as last read from the database, used to record status transitions
+    @Transient
+    @JsonIgnore
+    private ApplicationStatus persistedStatus;
+
     public enum ApplicationStatus {
         SUBMITTED, IN_REVIEW, APPROVED, REJECTED
     }
@@ -98,6 +138,10 @@ public class Application {
         this.status = status;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
     public List<Document> getDocuments() {
         return documents;
     }
@@ -113,4 +157,17 @@ public class Application {
     public void setReview(Review review) {
         this.review = review;
     }
+
+    public ApplicationStatus getPersistedStatus() {
+        return persistedStatus;
+    }
+
+    public void setPersistedStatus(ApplicationStatus persistedStatus) {
+        this.persistedStatus = persistedStatus;
+    }
+
+    @PostLoad
+    void rememberPersistedStatus() {
+        this.persistedStatus = this.status;
+    }
 }
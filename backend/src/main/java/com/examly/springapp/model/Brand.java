@@ -1,9 +1,12 @@
 package com.examly.springapp.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,16 +17,24 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
 @Table(name = "brands")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Brand {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brands_seq")
+    @SequenceGenerator(name = "brands_seq", sequenceName = "brands_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +49,15 @@ public class Brand {
     @OneToMany(mappedBy = "brand", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FoodTruck> foodTrucks;
 
+    // Bumped on every update, also when a nested resource shown in this one's JSON changes; backs the ETag
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    @UpdateTimestamp
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     public Long getId() {
         return id;
     }
@@ -70,6 +90,19 @@ public class Brand {
         this.foodTrucks = foodTrucks;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Marks the row as changed so its version and timestamp move on the next flush
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public Brand() {
     }
 
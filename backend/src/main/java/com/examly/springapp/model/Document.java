@@ -10,7 +10,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq")
+    @SequenceGenerator(name = "documents_seq", sequenceName = "documents_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -1,10 +1,11 @@
 package com.examly.springapp.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonGetter;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -17,25 +18,49 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
 @Table(name = "food_trucks")
+// Fetch plans: lists batch-load the menus, the detail joins them
+@NamedEntityGraph(name = FoodTruck.LIST_GRAPH)
+@NamedEntityGraph(name = FoodTruck.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("menuItems"))
 public class FoodTruck {
+    public static final String LIST_GRAPH = "FoodTruck.list";
+    public static final String DETAIL_GRAPH = "FoodTruck.detail";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "food_trucks_seq")
+    @SequenceGenerator(name = "food_trucks_seq", sequenceName = "food_trucks_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER) // Change to EAGER to ensure brand is loaded
+    // Lazy: the JSON only shows the brand's id and name, which the truck row carries itself
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id", nullable = false)
     @ToString.Exclude
     @JsonBackReference
     private Brand brand;
 
+    @Column(name = "brand_id", insertable = false, updatable = false)
+    @JsonIgnore
+    private Long brandId;
+
+    // Copy of the brand's name, kept in step by setBrand and BrandService on renames
+    @Column(name = "brand_name")
+    @JsonIgnore
+    private String brandName;
+
     @Column(nullable = false)
     private String operatingRegion;
 
@@ -43,27 +68,46 @@ public class FoodTruck {
     private String cuisineSpecialties;
     private String menuHighlights;
 
-    // Add application status field
+    // Status of the truck's latest application, read from the applications row, which is the only copy;
+    // a truck without an application shows as submitted
+    @Formula("coalesce((select a.status from applications a where a.id = "
+            + "(select max(a2.id) from applications a2 where a2.food_truck_id = id)), 'SUBMITTED')")
     @Enumerated(EnumType.STRING)
-    @Column(name = "application_status")
-    private Application.ApplicationStatus applicationStatus = Application.ApplicationStatus.SUBMITTED;
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Application.ApplicationStatus applicationStatus;
 
+    // Left out of the JSON: reviews, reviewers and documents hang off each application and change without
+    // touching the truck, so the cached representation and its ETag would go stale; only the status is shown
     @OneToMany(mappedBy = "foodTruck", cascade = CascadeType.ALL)
-    @JsonIgnoreProperties({"foodTruck"}) // Prevent circular reference
+    @JsonIgnore
     private List<Application> applications;
 
     @OneToMany(mappedBy = "foodTruck" , cascade = CascadeType.ALL , orphanRemoval = true)
     private List<MenuItem> menuItems;
 
+    // Bumped on every update, also when a nested resource shown in this one's JSON changes; backs the ETag
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    @UpdateTimestamp
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     // Add these custom getters for JSON serialization
     @JsonGetter("brandName")
     public String getBrandName() {
-        return brand != null ? brand.getBrandName() : null;
+        return brandName;
     }
 
     @JsonGetter("brandId")
     public Long getBrandId() {
-        return brand != null ? brand.getId() : null;
+        return brandId;
+    }
+
+    // Follows a rename of the brand
+    public void renameBrand(String brandName) {
+        this.brandName = brandName;
     }
 
     public Long getId() {
@@ -83,6 +127,8 @@ public class FoodTruck {
 
     public void setBrand(Brand brand) {
         this.brand = brand;
+        this.brandId = brand != null ? brand.getId() : null;
+        this.brandName = brand != null ? brand.getBrandName() : null;
     }
 
     public String getOperatingRegion() {
@@ -129,14 +175,23 @@ public class FoodTruck {
         return applicationStatus;
     }
 
-    public void setApplicationStatus(Application.ApplicationStatus applicationStatus) {
-        this.applicationStatus = applicationStatus;
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Marks the row as changed so its version and timestamp move on the next flush
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     public FoodTruck(Long id, Brand brand, String operatingRegion, String location,
             String cuisineSpecialties, String menuHighlights, List<MenuItem> menuItems) {
         this.id = id;
-        this.brand = brand;
+        setBrand(brand);
         this.operatingRegion = operatingRegion;
         this.location = location;
         this.cuisineSpecialties = cuisineSpecialties;
@@ -3,13 +3,30 @@ package com.examly.springapp.model;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "inspections")
+// Fetch plans: the truck and the inspector; the detail also loads the truck's menu
+@NamedEntityGraph(name = Inspection.LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("foodTruck"),
+                @NamedAttributeNode("inspector")
+        })
+@NamedEntityGraph(name = Inspection.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "foodTruck", subgraph = "foodTruck"),
+                @NamedAttributeNode("inspector")
+        },
+        subgraphs = @NamedSubgraph(name = "foodTruck", attributeNodes = @NamedAttributeNode("menuItems")))
 public class Inspection {
+    public static final String LIST_GRAPH = "Inspection.list";
+    public static final String DETAIL_GRAPH = "Inspection.detail";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inspections_seq")
+    @SequenceGenerator(name = "inspections_seq", sequenceName = "inspections_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -23,6 +40,8 @@ public class Inspection {
     private LocalDateTime inspectionDate;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private InspectionResult result; // PASS, FAIL
 
     public enum InspectionResult {
@@ -1,25 +1,36 @@
 package com.examly.springapp.model;
 
+import java.time.LocalDateTime;
+
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
 @Table(name = "menu_items")
-@Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MenuItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_items_seq")
+    @SequenceGenerator(name = "menu_items_seq", sequenceName = "menu_items_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -34,6 +45,15 @@ public class MenuItem {
     @JsonBackReference
     private FoodTruck foodTruck;
 
+    // Bumped on every update; backs the ETag
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    @UpdateTimestamp
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     public Long getId() {
         return id;
     }
@@ -82,6 +102,15 @@ public class MenuItem {
         this.foodTruck = foodTruck;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Builder
     public MenuItem(Long id, String name, Double price, String description, String imageURL, FoodTruck foodTruck) {
         this.id = id;
         this.name = name;
@@ -5,13 +5,38 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "reviews")
+// Fetch plans: the application with its truck and vendor, and the reviewer, in one joined select
+@NamedEntityGraph(name = Review.LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "application", subgraph = "application"),
+                @NamedAttributeNode("reviewer")
+        },
+        subgraphs = @NamedSubgraph(name = "application", attributeNodes = {
+                @NamedAttributeNode("foodTruck"),
+                @NamedAttributeNode("vendor")
+        }))
+@NamedEntityGraph(name = Review.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "application", subgraph = "application"),
+                @NamedAttributeNode("reviewer")
+        },
+        subgraphs = @NamedSubgraph(name = "application", attributeNodes = {
+                @NamedAttributeNode("foodTruck"),
+                @NamedAttributeNode("vendor"),
+                @NamedAttributeNode("documents")
+        }))
 public class Review {
+    public static final String LIST_GRAPH = "Review.list";
+    public static final String DETAIL_GRAPH = "Review.detail";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -27,6 +52,8 @@ public class Review {
     private LocalDateTime reviewDate;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private ReviewStatus reviewStatus;
 
     public enum ReviewStatus {
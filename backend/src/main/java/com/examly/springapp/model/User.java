@@ -1,15 +1,23 @@
 package com.examly.springapp.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 
 @Entity
 @Table(name = "ft_users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ft_users_seq")
+    @SequenceGenerator(name = "ft_users_seq", sequenceName = "ft_users_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -18,6 +26,8 @@ public class User {
 
     @Enumerated(EnumType.STRING)
     // @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private Role role;
 
     public enum Role {
@@ -1,24 +1,109 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.ApplicationSummaryDto;
+import com.examly.springapp.dto.ApplicationWithDetailsDto;
 import com.examly.springapp.model.Application;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+    // Flat ApplicationWithDetailsDto rows in one joined select, without loading any entity
+    String WITH_DETAILS_SELECT = "SELECT new com.examly.springapp.dto.ApplicationWithDetailsDto("
+            + "a.id, a.submissionDate, a.status, ft.id, ft.location, ft.operatingRegion, ft.cuisineSpecialties, "
+            + "b.brandName, v.name, v.email, r.id, u.name) "
+            + "FROM Application a LEFT JOIN a.foodTruck ft LEFT JOIN ft.brand b LEFT JOIN b.vendor v "
+            + "LEFT JOIN a.review r LEFT JOIN r.reviewer u";
+
+    // Entity listings load Application.LIST_GRAPH, the single-application view Application.DETAIL_GRAPH
+    @Override
+    @EntityGraph(value = Application.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    List<Application> findAll();
+
+    @Override
+    @EntityGraph(value = Application.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Page<Application> findAll(Pageable pageable);
+
+    @EntityGraph(value = Application.DETAIL_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Application> findDetailById(Long id);
+
+    // Flat rows for the summary list view, in one joined select without loading any entity
+    @Query("SELECT new com.examly.springapp.dto.ApplicationSummaryDto("
+            + "a.id, a.submissionDate, a.status, ft.id, ft.brandName, v.id, v.name, r.id, r.reviewStatus, u.name) "
+            + "FROM Application a LEFT JOIN a.foodTruck ft LEFT JOIN a.vendor v "
+            + "LEFT JOIN a.review r LEFT JOIN r.reviewer u ORDER BY a.id")
+    List<ApplicationSummaryDto> findAllSummaries();
+
+    @EntityGraph(value = Application.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<Application> findByReviewIsNull(Pageable pageable);
     
+    @EntityGraph(value = Application.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT a FROM Application a WHERE a.status = :status")
     List<Application> getApplicationsByStatus(@Param("status") Application.ApplicationStatus status);
     
+    @EntityGraph(value = Application.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<Application> findByStatus(Application.ApplicationStatus status, Pageable pageable);
     
-    Optional<Application> findByFoodTruckId(Long foodTruckId);
+    // On the food_truck_id column; the derived query would outer-join the truck and scan applications
+    @Query("SELECT a FROM Application a WHERE a.foodTruck.id = :foodTruckId")
+    Optional<Application> findByFoodTruckId(@Param("foodTruckId") Long foodTruckId);
+
+    @Query(value = WITH_DETAILS_SELECT,
+           countQuery = "SELECT COUNT(a) FROM Application a")
+    Page<ApplicationWithDetailsDto> findAllWithDetails(Pageable pageable);
+
+    @Query(value = WITH_DETAILS_SELECT + " WHERE a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.status = :status")
+    Page<ApplicationWithDetailsDto> findWithDetailsByStatus(@Param("status") Application.ApplicationStatus status, Pageable pageable);
+
+    // Bulk status transitions: the ids a filter selects (the first page of them, lowest first), with and
+    // without a submission cutoff so each query can seek the status index, the rows of a chunk locked with
+    // their current status as [id, status], and the guarded set-based update of the chunk
+    @Query("SELECT a.id FROM Application a WHERE a.status = :status ORDER BY a.id")
+    List<Long> findIdsByStatus(@Param("status") Application.ApplicationStatus status, Pageable pageable);
+
+    @Query("SELECT a.id FROM Application a WHERE a.status = :status AND a.submissionDate < :before ORDER BY a.id")
+    List<Long> findIdsByStatusSubmittedBefore(@Param("status") Application.ApplicationStatus status,
+                                              @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id, a.status FROM Application a WHERE a.id IN :ids")
+    List<Object[]> lockStatuses(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :to, a.updatedAt = LOCAL DATETIME WHERE a.id IN :ids AND a.status = :from")
+    int updateStatuses(@Param("ids") Collection<Long> ids,
+                       @Param("from") Application.ApplicationStatus from,
+                       @Param("to") Application.ApplicationStatus to);
+
+    // The oldest submitted applications without a review, for the reviewer assignment engine, locked; rows
+    // another node has already locked are skipped rather than waited for. The engine then moves them with
+    // updateStatuses, guarded on SUBMITTED like a bulk transition.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT a.id FROM Application a WHERE a.status = :status"
+            + " AND NOT EXISTS (SELECT r.id FROM Review r WHERE r.application = a)"
+            + " ORDER BY a.submissionDate, a.id")
+    List<Long> lockUnassigned(@Param("status") Application.ApplicationStatus status, Pageable pageable);
+
+    // Grouped count for dashboard statistics: rows of [status, count]
+    @Query("SELECT a.status, COUNT(a) FROM Application a GROUP BY a.status")
+    List<Object[]> countGroupedByStatus();
 }
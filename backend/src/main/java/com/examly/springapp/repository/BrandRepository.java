@@ -1,18 +1,44 @@
 package com.examly.springapp.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.examly.springapp.dto.VersionStamp;
 import com.examly.springapp.model.Brand;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long>{
     // List<Brand> findByVendorId(Long vendorId);
 
+    // Served from the query cache; invalidated whenever brands changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT b FROM Brand b WHERE b.vendor.id = :vendorId")
     List<Brand> findByVendorId(@Param("vendorId") Long vendorId);
-}
\ No newline at end of file
+
+    // Version lookups for conditional GETs; a brand's JSON shows the application status of each of its trucks,
+    // see FoodTruckRepository.findVersionStampById
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(b.id, b.version, b.updatedAt, "
+            + "(SELECT COUNT(a) FROM Application a JOIN a.foodTruck t WHERE t.brandId = b.id), "
+            + "(SELECT MAX(a.updatedAt) FROM Application a JOIN a.foodTruck t WHERE t.brandId = b.id)) "
+            + "FROM Brand b WHERE b.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(COUNT(b), SUM(b.id), SUM(b.version), MAX(b.updatedAt), "
+            + "(SELECT COUNT(a) FROM Application a), (SELECT MAX(a.updatedAt) FROM Application a)) FROM Brand b")
+    VersionStamp findAllVersionStamp();
+
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(COUNT(b), SUM(b.id), SUM(b.version), MAX(b.updatedAt), "
+            + "(SELECT COUNT(a) FROM Application a JOIN a.foodTruck t JOIN t.brand tb WHERE tb.vendor.id = :vendorId), "
+            + "(SELECT MAX(a.updatedAt) FROM Application a JOIN a.foodTruck t JOIN t.brand tb WHERE tb.vendor.id = :vendorId)) "
+            + "FROM Brand b WHERE b.vendor.id = :vendorId")
+    VersionStamp findVersionStampByVendorId(@Param("vendorId") Long vendorId);
+}
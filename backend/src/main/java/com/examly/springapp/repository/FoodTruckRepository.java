@@ -1,21 +1,54 @@
 package com.examly.springapp.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.examly.springapp.dto.FoodTruckSummaryDto;
+import com.examly.springapp.dto.VersionStamp;
 import com.examly.springapp.model.FoodTruck;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FoodTruckRepository extends JpaRepository<FoodTruck, Long> {
     // List<FoodTruck> findByBrandId(Integer brandId);
 
+    // Entity listings load FoodTruck.LIST_GRAPH, the single-truck view FoodTruck.DETAIL_GRAPH
+    @Override
+    @EntityGraph(value = FoodTruck.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    List<FoodTruck> findAll();
+
+    @EntityGraph(value = FoodTruck.DETAIL_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<FoodTruck> findDetailById(Long id);
+
+    // Flat rows for the summary list view; the brand columns live on the truck row
+    @Query("SELECT new com.examly.springapp.dto.FoodTruckSummaryDto("
+            + "f.id, f.brandId, f.brandName, f.operatingRegion, f.location, f.cuisineSpecialties, f.applicationStatus) "
+            + "FROM FoodTruck f ORDER BY f.id")
+    List<FoodTruckSummaryDto> findAllSummaries();
+
+    @EntityGraph(value = FoodTruck.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT f FROM FoodTruck f WHERE f.brand.id = :brandId")
     List<FoodTruck> findByBrandId(@Param("brandId") Long brandId);
 
-    
+    // Version lookups for conditional GETs. A truck shows its application's status without storing it, so
+    // the stamps also take the count and latest updatedAt of the applications, both off an index; a status
+    // change writes only the applications row.
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(f.id, f.version, f.updatedAt, "
+            + "(SELECT COUNT(a) FROM Application a WHERE a.foodTruck.id = f.id), "
+            + "(SELECT MAX(a.updatedAt) FROM Application a WHERE a.foodTruck.id = f.id)) "
+            + "FROM FoodTruck f WHERE f.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(COUNT(f), SUM(f.id), SUM(f.version), MAX(f.updatedAt), "
+            + "(SELECT COUNT(a) FROM Application a), (SELECT MAX(a.updatedAt) FROM Application a)) FROM FoodTruck f")
+    VersionStamp findAllVersionStamp();
+
+    // For cache eviction, without loading the truck
+    @Query("SELECT f.brandId FROM FoodTruck f WHERE f.id = :id")
+    Optional<Long> findBrandIdById(@Param("id") Long id);
 }
\ No newline at end of file
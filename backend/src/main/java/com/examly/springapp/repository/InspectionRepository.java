@@ -1,23 +1,43 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.InspectionSummaryDto;
 import com.examly.springapp.model.Inspection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InspectionRepository extends JpaRepository<Inspection, Long> {
+    // Entity listings load Inspection.LIST_GRAPH, the single-inspection view Inspection.DETAIL_GRAPH
+    @Override
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    List<Inspection> findAll();
+
+    @EntityGraph(value = Inspection.DETAIL_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Inspection> findDetailById(Long id);
+
+    // Flat rows for the summary list view, in one joined select without loading any entity
+    @Query("SELECT new com.examly.springapp.dto.InspectionSummaryDto("
+            + "i.id, i.inspectionDate, i.result, ft.id, ft.brandName, u.id, u.name) "
+            + "FROM Inspection i LEFT JOIN i.foodTruck ft LEFT JOIN i.inspector u ORDER BY i.id")
+    List<InspectionSummaryDto> findAllSummaries();
+
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT i FROM Inspection i WHERE i.inspector.id = :inspectorId")
     List<Inspection> getInspectionsByInspectorId(@Param("inspectorId") Long inspectorId);
     
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT i FROM Inspection i WHERE i.result = :result")
     List<Inspection> getInspectionsByResult(@Param("result") Inspection.InspectionResult result);
     
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT i FROM Inspection i WHERE i.inspector.id = :inspectorId AND i.result = :result")
     List<Inspection> getInspectionsByInspectorIdAndResult(@Param("inspectorId") Long inspectorId, @Param("result") Inspection.InspectionResult result);
     
@@ -26,6 +46,12 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long> {
     long countByInspectorIdAndResult(Long inspectorId, Inspection.InspectionResult result);
     
     // Paginated methods
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<Inspection> findByInspectorId(Pageable pageable, Long inspectorId);
+    @EntityGraph(value = Inspection.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Page<Inspection> findByInspectorIdAndResult(Pageable pageable, Long inspectorId, Inspection.InspectionResult result);
+
+    // Grouped count for dashboard statistics: rows of [result, count]
+    @Query("SELECT i.result, COUNT(i) FROM Inspection i GROUP BY i.result")
+    List<Object[]> countGroupedByResult();
 }
@@ -1,16 +1,25 @@
 package com.examly.springapp.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.examly.springapp.dto.VersionStamp;
 import com.examly.springapp.model.MenuItem;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long>{
     @Query("SELECT m FROM MenuItem m WHERE m.foodTruck.id = :truckId")
     List<MenuItem> findByTruckId(@Param("truckId") Long truckId);
+
+    // Version lookups for conditional GETs
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(m.id, m.version, m.updatedAt) FROM MenuItem m WHERE m.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.examly.springapp.dto.VersionStamp(COUNT(m), SUM(m.id), SUM(m.version), MAX(m.updatedAt)) FROM MenuItem m")
+    VersionStamp findAllVersionStamp();
 }
@@ -1,23 +1,56 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.ReviewSummaryDto;
 import com.examly.springapp.model.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     // List<Review> findByReviewerId(Long reviewerId);
     // List<Review> findByReviewStatus(Review.ReviewStatus reviewStatus);
     
-    // Paginated methods
-    Page<Review> findByReviewerId(Pageable pageable, Long reviewerId);
-    Page<Review> findByReviewerIdAndReviewStatus(Pageable pageable, Long reviewerId, Review.ReviewStatus reviewStatus);
+    // Entity listings load Review.LIST_GRAPH, the single-review view Review.DETAIL_GRAPH
+    @Override
+    @EntityGraph(value = Review.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    List<Review> findAll();
+
+    @EntityGraph(value = Review.DETAIL_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Review> findDetailById(Long id);
+
+    // Flat rows for the summary list view, in one joined select without loading any entity
+    @Query("SELECT new com.examly.springapp.dto.ReviewSummaryDto("
+            + "r.id, r.reviewDate, r.reviewStatus, a.id, a.status, ft.id, ft.brandName, u.id, u.name) "
+            + "FROM Review r LEFT JOIN r.application a LEFT JOIN a.foodTruck ft LEFT JOIN r.reviewer u ORDER BY r.id")
+    List<ReviewSummaryDto> findAllSummaries();
+
+    // Paginated methods; compared on the reviewer_id column, as a derived query would outer-join the
+    // reviewer to read its id and the planner could then no longer start from the reviewer index
+    @EntityGraph(value = Review.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    @Query("SELECT r FROM Review r WHERE r.reviewer.id = :reviewerId")
+    Page<Review> findByReviewerId(Pageable pageable, @Param("reviewerId") Long reviewerId);
+    @EntityGraph(value = Review.LIST_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    @Query("SELECT r FROM Review r WHERE r.reviewer.id = :reviewerId AND r.reviewStatus = :reviewStatus")
+    Page<Review> findByReviewerIdAndReviewStatus(Pageable pageable, @Param("reviewerId") Long reviewerId,
+                                                 @Param("reviewStatus") Review.ReviewStatus reviewStatus);
     
     // Count methods for statistics
     long countByReviewerId(Long reviewerId);
     long countByReviewerIdAndReviewStatus(Long reviewerId, Review.ReviewStatus reviewStatus);
+
+    // countByReviewerIdAndReviewStatus for every reviewer in one grouped query: rows of [reviewerId, count]
+    @Query("SELECT r.reviewer.id, COUNT(r) FROM Review r WHERE r.reviewStatus = :status GROUP BY r.reviewer.id")
+    List<Object[]> countByReviewStatusGroupedByReviewer(@Param("status") Review.ReviewStatus status);
+
+    // Grouped count for dashboard statistics: rows of [reviewStatus, count]
+    @Query("SELECT r.reviewStatus, COUNT(r) FROM Review r GROUP BY r.reviewStatus")
+    List<Object[]> countGroupedByReviewStatus();
 }
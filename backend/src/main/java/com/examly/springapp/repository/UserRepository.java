@@ -1,16 +1,32 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.UserSummaryDto;
 import com.examly.springapp.model.User;
 
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // Rows for the summary list view, never selecting the password
+    @Query("SELECT new com.examly.springapp.dto.UserSummaryDto(u.id, u.name, u.email, u.role) FROM User u ORDER BY u.id")
+    List<UserSummaryDto> findAllSummaries();
     
+    // Served from the query cache; invalidated whenever ft_users changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(User.Role role);
+
+    // Grouped count for dashboard statistics: rows of [role, count]
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
 }
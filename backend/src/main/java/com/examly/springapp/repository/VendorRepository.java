@@ -3,11 +3,18 @@ package com.examly.springapp.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.examly.springapp.model.Vendor;
 
 @Repository
 public interface VendorRepository extends JpaRepository<Vendor, Long> {
-    Optional<Vendor> findByEmailIgnoreCase(String email);
+    // Case-insensitive only through the email column's collation: utf8mb4_0900_as_ci on MySQL (V5),
+    // varchar_ignorecase on H2, both ignoring case but not accents. A plain equality then matches regardless
+    // of case and, unlike upper(email) = upper(?), can use ix_vendors_email; on a column with a binary or
+    // case-sensitive collation it would match exact case only.
+    @Query("SELECT v FROM Vendor v WHERE v.email = :email")
+    Optional<Vendor> findByEmailUsingColumnCollation(@Param("email") String email);
 }
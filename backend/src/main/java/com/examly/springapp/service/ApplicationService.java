@@ -1,5 +1,7 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.ApplicationSummaryDto;
+import com.examly.springapp.dto.CursorPage;
 import com.examly.springapp.model.Application;
 import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.Review;
@@ -34,6 +36,15 @@ public class ApplicationService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private DashboardCounterRegistry dashboardCounters;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private CatalogueCacheService catalogueCache;
+
     public ApplicationService(ApplicationRepository applicationRepository, 
                             FoodTruckRepository foodTruckRepository) {
         this.applicationRepository = applicationRepository;
@@ -44,6 +55,11 @@ public class ApplicationService {
         return applicationRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<ApplicationSummaryDto> findAllSummaries() {
+        return applicationRepository.findAllSummaries();
+    }
+
     // New method for paginated and sorted applications
     public Page<Application> findAllPaginated(int page, int size, String sortBy, String sortDirection, Application.ApplicationStatus status) {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
@@ -56,6 +72,14 @@ public class ApplicationService {
         }
     }
 
+    // Keyset pagination: continues after the given cursor and skips the count query
+    @Transactional(readOnly = true)
+    public CursorPage<Application> findAllByCursor(String after, int size, String sortBy, String sortDirection, Application.ApplicationStatus status) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return keysetPaginator.page(Application.class, Application.LIST_GRAPH, after, size, sortBy, direction,
+                (root, cb) -> status != null ? List.of(cb.equal(root.get("status"), status)) : List.of());
+    }
+
     // New method to find applications without reviewers
     public Page<Application> findApplicationsWithoutReviewer(int page, int size, String sortBy, String sortDirection) {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
@@ -67,15 +91,28 @@ public class ApplicationService {
         return applicationRepository.findById(id);
     }
 
+    // Everything the single-application JSON shows, see Application.DETAIL_GRAPH
+    @Transactional(readOnly = true)
+    public Optional<Application> findDetailById(Long id) {
+        return applicationRepository.findDetailById(id);
+    }
+
     @Transactional
     public Application save(Application application) {
         Application savedApplication = applicationRepository.save(application);
-        
-        // Synchronize status with FoodTruck
-        if (savedApplication.getFoodTruck() != null) {
-            FoodTruck foodTruck = savedApplication.getFoodTruck();
-            foodTruck.setApplicationStatus(savedApplication.getStatus());
-            foodTruckRepository.save(foodTruck);
+
+        // Record the status change for the dashboard counters once the transaction commits
+        Application.ApplicationStatus previousStatus = savedApplication.getPersistedStatus();
+        dashboardCounters.recordApplicationTransition(previousStatus, savedApplication.getStatus());
+        savedApplication.setPersistedStatus(savedApplication.getStatus());
+
+        // The truck reads its status from this row, and its ETag and its brand's follow the row's updatedAt;
+        // only the cached truck JSON needs to go
+        if (previousStatus != savedApplication.getStatus()
+                && savedApplication.getFoodTruck() != null && savedApplication.getFoodTruck().getId() != null) {
+            // A new application may only carry the truck id
+            Long truckId = savedApplication.getFoodTruck().getId();
+            catalogueCache.evictFoodTruck(truckId, foodTruckRepository.findBrandIdById(truckId).orElse(null));
         }
         
         return savedApplication;
@@ -114,13 +151,14 @@ public class ApplicationService {
         
         // Save the review
         Review savedReview = reviewRepository.save(review);
+        dashboardCounters.recordReviewTransition(null, savedReview.getReviewStatus());
         
         // Update application with review
         application.setReview(savedReview);
         application.setStatus(Application.ApplicationStatus.IN_REVIEW);
         
-        // Save and return the updated application
-        return applicationRepository.save(application);
+        // Save, synchronize and return the updated application
+        return save(application);
     }
 
     @Transactional(readOnly = true)
@@ -139,7 +177,7 @@ public class ApplicationService {
                 .distinct()
                 .map(truck -> new com.examly.springapp.dto.FoodTruckWithOwnerDto(
                         truck.getId(),
-                        truck.getBrand() != null ? truck.getBrand().getBrandName() : null,
+                        truck.getBrandName(),
                         truck.getBrand() != null && truck.getBrand().getVendor() != null ? truck.getBrand().getVendor().getName() : null,
                         truck.getBrand() != null && truck.getBrand().getVendor() != null ? truck.getBrand().getVendor().getEmail() : null,
                         truck.getOperatingRegion(),
@@ -165,40 +203,16 @@ public class ApplicationService {
         return applicationRepository.findByStatus(status, pageable);
     }
 
+    // Details are projected straight from a joined query, see ApplicationRepository.WITH_DETAILS_SELECT
     @Transactional(readOnly = true)
     public Page<com.examly.springapp.dto.ApplicationWithDetailsDto> findAllApplicationsWithDetails(Pageable pageable) {
-        Page<Application> applications = applicationRepository.findAll(pageable);
-        return applications.map(this::convertToApplicationWithDetailsDto);
+        return applicationRepository.findAllWithDetails(pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<com.examly.springapp.dto.ApplicationWithDetailsDto> findApplicationsWithDetailsByStatus(
             Application.ApplicationStatus status, Pageable pageable) {
-        Page<Application> applications = applicationRepository.findByStatus(status, pageable);
-        return applications.map(this::convertToApplicationWithDetailsDto);
-    }
-
-    private com.examly.springapp.dto.ApplicationWithDetailsDto convertToApplicationWithDetailsDto(Application app) {
-        return new com.examly.springapp.dto.ApplicationWithDetailsDto(
-            app.getId(),
-            app.getSubmissionDate(),
-            app.getStatus(),
-            app.getFoodTruck() != null ? app.getFoodTruck().getId() : null,
-            app.getFoodTruck() != null ? app.getFoodTruck().getLocation() : null,
-            app.getFoodTruck() != null ? app.getFoodTruck().getOperatingRegion() : null,
-            app.getFoodTruck() != null ? app.getFoodTruck().getCuisineSpecialties() : null,
-            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null ? 
-                app.getFoodTruck().getBrand().getBrandName() : null,
-            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null && 
-                app.getFoodTruck().getBrand().getVendor() != null ? 
-                app.getFoodTruck().getBrand().getVendor().getName() : null,
-            app.getFoodTruck() != null && app.getFoodTruck().getBrand() != null && 
-                app.getFoodTruck().getBrand().getVendor() != null ? 
-                app.getFoodTruck().getBrand().getVendor().getEmail() : null,
-            app.getReview() != null ? app.getReview().getId() : null,
-            app.getReview() != null && app.getReview().getReviewer() != null ? 
-                app.getReview().getReviewer().getName() : null
-        );
+        return applicationRepository.findWithDetailsByStatus(status, pageable);
     }
 
     @Transactional
@@ -0,0 +1,102 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.BulkStatusTransitionResult;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.repository.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Moves many applications from one status to another with two statements per chunk of ids: a select
+// that locks the rows and reads their status, then one UPDATE ... WHERE id IN (...) AND status = :from,
+// which also moves their updatedAt for the truck and brand ETags. The lock keeps the per-id outcomes
+// exact under concurrent single updates.
+@Service
+public class ApplicationStatusTransitionService {
+
+    private final ApplicationRepository applicationRepository;
+    private final DashboardCounterRegistry dashboardCounters;
+    private final CatalogueCacheService catalogueCache;
+    private final int chunkSize;
+    private final int maxIds;
+
+    public ApplicationStatusTransitionService(ApplicationRepository applicationRepository,
+                                              DashboardCounterRegistry dashboardCounters,
+                                              CatalogueCacheService catalogueCache,
+                                              @Value("${applications.bulk-status.chunk-size:1000}") int chunkSize,
+                                              @Value("${applications.bulk-status.max-ids:10000}") int maxIds) {
+        this.applicationRepository = applicationRepository;
+        this.dashboardCounters = dashboardCounters;
+        this.catalogueCache = catalogueCache;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    // Without ids, transitions the applications in the "from" status, at most maxIds of them per call
+    @Transactional
+    public BulkStatusTransitionResult transition(List<Long> ids, Application.ApplicationStatus from,
+                                                 Application.ApplicationStatus to, LocalDateTime submittedBefore) {
+        if (from == to) {
+            throw new IllegalArgumentException("from and to must differ");
+        }
+        BulkStatusTransitionResult result = new BulkStatusTransitionResult(from, to);
+
+        List<Long> targets;
+        if (ids != null) {
+            // Sorted, so concurrent bulk transitions lock rows in the same order
+            targets = ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+            if (targets.size() > maxIds) {
+                throw new IllegalArgumentException("At most " + maxIds + " ids per request");
+            }
+        } else {
+            PageRequest firstPage = PageRequest.of(0, maxIds + 1);
+            targets = submittedBefore != null
+                    ? applicationRepository.findIdsByStatusSubmittedBefore(from, submittedBefore, firstPage)
+                    : applicationRepository.findIdsByStatus(from, firstPage);
+            if (targets.size() > maxIds) {
+                targets = targets.subList(0, maxIds);
+                result.setMoreMatching(true);
+            }
+        }
+
+        for (int start = 0; start < targets.size(); start += chunkSize) {
+            List<Long> chunk = targets.subList(start, Math.min(start + chunkSize, targets.size()));
+            Map<Long, Application.ApplicationStatus> current = new HashMap<>();
+            for (Object[] row : applicationRepository.lockStatuses(chunk)) {
+                current.put((Long) row[0], (Application.ApplicationStatus) row[1]);
+            }
+
+            List<Long> moving = chunk.stream().filter(id -> current.get(id) == from).toList();
+            if (!moving.isEmpty()) {
+                int updated = applicationRepository.updateStatuses(moving, from, to);
+                if (updated != moving.size()) {
+                    throw new IllegalStateException("Updated " + updated + " applications, expected " + moving.size());
+                }
+            }
+
+            for (Long id : chunk) {
+                if (!current.containsKey(id)) {
+                    result.record(id, BulkStatusTransitionResult.Outcome.NOT_FOUND);
+                } else if (current.get(id) == from) {
+                    result.record(id, BulkStatusTransitionResult.Outcome.UPDATED);
+                } else {
+                    result.record(id, BulkStatusTransitionResult.Outcome.STATUS_MISMATCH);
+                }
+            }
+        }
+
+        if (result.getUpdated() > 0) {
+            dashboardCounters.recordApplicationTransitions(from, to, result.getUpdated());
+            // The trucks show their application's status; a bulk change touches too many to evict one by one
+            catalogueCache.evictAllFoodTrucks();
+        }
+        return result;
+    }
+}
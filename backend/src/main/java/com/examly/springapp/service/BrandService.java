@@ -2,8 +2,10 @@ package com.examly.springapp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.examly.springapp.model.Brand;
+import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.Vendor;
 import com.examly.springapp.repository.BrandRepository;
 import com.examly.springapp.repository.VendorRepository;
@@ -20,6 +22,10 @@ public class BrandService {
     @Autowired
     private VendorRepository vendorRepository;
 
+    @Autowired
+    private CatalogueCacheService catalogueCache;
+
+    @Transactional
     public Brand saveBrand(Long vendorId, Brand brand) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new RuntimeException("Vendor not found with ID: " + vendorId));
@@ -39,34 +45,52 @@ public class BrandService {
         return brandRepository.findByVendorId(vendorId);
     }
 
+    // Deleting a brand cascades to its trucks and their menus
     public void deleteBrand(Long id) {
         brandRepository.deleteById(id);
+        catalogueCache.evictAll();
     }
 
     public void deleteAllBrands() {
         brandRepository.deleteAll();
+        catalogueCache.evictAll();
     }
 
+    @Transactional
     public Brand putBrand(Long id, Brand updatedBrand) {
         Brand existingBrand = brandRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Brand not found with ID: " + id));
 
-        existingBrand.setBrandName(updatedBrand.getBrandName());
+        rename(existingBrand, updatedBrand.getBrandName());
 
         return brandRepository.save(existingBrand);
     }
 
+    @Transactional
     public Brand patchBrand(Long id, Brand updatedBrand) {
         Brand existingBrand = brandRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Brand not found with ID: " + id));
 
         if (updatedBrand.getBrandName() != null) {
-            existingBrand.setBrandName(updatedBrand.getBrandName());
+            rename(existingBrand, updatedBrand.getBrandName());
         }
 
         return brandRepository.save(existingBrand);
     }
 
+    // Trucks carry a copy of the brand name, so a rename rewrites it, which moves their versions too
+    private void rename(Brand brand, String brandName) {
+        if (brandName != null && brandName.equals(brand.getBrandName())) {
+            return;
+        }
+        brand.setBrandName(brandName);
+        if (brand.getFoodTrucks() != null) {
+            brand.getFoodTrucks().forEach(truck -> truck.renameBrand(brandName));
+        }
+        catalogueCache.evictAllFoodTrucks();
+    }
+
+    @Transactional
     public List<Brand> saveAllBrands(Long vendorId, List<Brand> brands) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new RuntimeException("Vendor not found with ID: " + vendorId));
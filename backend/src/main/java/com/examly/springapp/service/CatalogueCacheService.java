@@ -0,0 +1,99 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Precise invalidation for the public catalogue caches. A truck's cached JSON embeds its menu,
+// brand name and application status, so changes to any of those evict the truck entries too.
+@Service
+public class CatalogueCacheService {
+
+    private static final List<String> CACHE_NAMES = List.of(
+            CacheConfig.FOOD_TRUCK, CacheConfig.FOOD_TRUCKS,
+            CacheConfig.FOOD_TRUCKS_BY_BRAND, CacheConfig.MENU_ITEMS_BY_TRUCK);
+
+    private final CacheManager cacheManager;
+
+    public CatalogueCacheService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // A truck was created, updated or its application status changed
+    public void evictFoodTruck(Long truckId, Long brandId) {
+        if (truckId != null) {
+            evict(CacheConfig.FOOD_TRUCK, truckId);
+        }
+        if (brandId != null) {
+            evict(CacheConfig.FOOD_TRUCKS_BY_BRAND, brandId);
+        }
+        evict(CacheConfig.FOOD_TRUCKS, CacheConfig.ALL);
+    }
+
+    public void evictDeletedFoodTruck(Long truckId, Long brandId) {
+        evictFoodTruck(truckId, brandId);
+        evict(CacheConfig.MENU_ITEMS_BY_TRUCK, truckId);
+    }
+
+    // A menu item of the truck was created, updated or deleted
+    public void evictMenu(Long truckId, Long brandId) {
+        evict(CacheConfig.MENU_ITEMS_BY_TRUCK, truckId);
+        evictFoodTruck(truckId, brandId);
+    }
+
+    // Brand renames and vendor/brand deletes touch every truck of the brand; these are rare, so clear the truck caches
+    public void evictAllFoodTrucks() {
+        clear(CacheConfig.FOOD_TRUCK);
+        clear(CacheConfig.FOOD_TRUCKS);
+        clear(CacheConfig.FOOD_TRUCKS_BY_BRAND);
+    }
+
+    public void evictAll() {
+        CACHE_NAMES.forEach(this::clear);
+    }
+
+    // Per-cache Caffeine statistics
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String name : CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            CacheStats cacheStats = caffeineCache.getNativeCache().stats();
+            Map<String, Object> cacheMap = new LinkedHashMap<>();
+            cacheMap.put("size", caffeineCache.getNativeCache().estimatedSize());
+            cacheMap.put("hits", cacheStats.hitCount());
+            cacheMap.put("misses", cacheStats.missCount());
+            cacheMap.put("hitRate", Math.round(cacheStats.hitRate() * 1000.0) / 10.0);
+            cacheMap.put("evictions", cacheStats.evictionCount());
+            stats.put(name, cacheMap);
+        }
+        return stats;
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
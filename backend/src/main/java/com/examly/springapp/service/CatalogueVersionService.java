@@ -0,0 +1,81 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.VersionStamp;
+import com.examly.springapp.repository.BrandRepository;
+import com.examly.springapp.repository.FoodTruckRepository;
+import com.examly.springapp.repository.MenuItemRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.Optional;
+
+// Version lookups behind the catalogue ETags. A truck's version also moves when its menu changes and a
+// brand's when one of its trucks changes, so one row answers for the nested JSON; the application
+// statuses the trucks show are followed through the applications' own updatedAt.
+@Service
+@Transactional(readOnly = true)
+public class CatalogueVersionService {
+
+    private final FoodTruckRepository foodTruckRepository;
+    private final BrandRepository brandRepository;
+    private final MenuItemRepository menuItemRepository;
+
+    public CatalogueVersionService(FoodTruckRepository foodTruckRepository,
+                                   BrandRepository brandRepository,
+                                   MenuItemRepository menuItemRepository) {
+        this.foodTruckRepository = foodTruckRepository;
+        this.brandRepository = brandRepository;
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    public Optional<VersionStamp> foodTruck(Long id) {
+        return foodTruckRepository.findVersionStampById(id);
+    }
+
+    public VersionStamp allFoodTrucks() {
+        return foodTruckRepository.findAllVersionStamp();
+    }
+
+    public Optional<VersionStamp> brand(Long id) {
+        return brandRepository.findVersionStampById(id);
+    }
+
+    public VersionStamp allBrands() {
+        return brandRepository.findAllVersionStamp();
+    }
+
+    public VersionStamp brandsOfVendor(Long vendorId) {
+        return brandRepository.findVersionStampByVendorId(vendorId);
+    }
+
+    public Optional<VersionStamp> menuItem(Long id) {
+        return menuItemRepository.findVersionStampById(id);
+    }
+
+    public VersionStamp allMenuItems() {
+        return menuItemRepository.findAllVersionStamp();
+    }
+
+    // Sets ETag and Last-Modified and returns true if the client's copy is current (the response is then a 304)
+    public static boolean notModified(WebRequest request, String resource, Optional<VersionStamp> stamp) {
+        if (stamp.isEmpty()) {
+            return false;
+        }
+        VersionStamp current = stamp.get();
+        long lastModified = current.getLastModified() != null
+                ? current.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return request.checkNotModified(eTag(resource, current), lastModified);
+    }
+
+    // Collections only get an ETag: deleting a row does not move MAX(updatedAt)
+    public static boolean collectionNotModified(WebRequest request, String resource, VersionStamp stamp) {
+        return request.checkNotModified(eTag(resource, stamp));
+    }
+
+    private static String eTag(String resource, VersionStamp stamp) {
+        return "\"" + resource + "-" + stamp.getTag() + "\"";
+    }
+}
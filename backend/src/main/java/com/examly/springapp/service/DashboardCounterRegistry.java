@@ -0,0 +1,223 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+// In-memory dashboard counters, updated when the owning transaction commits and
+// periodically reconciled against the grouped count queries to correct drift
+// (deletes and writes outside the services are only picked up by reconciliation).
+// Updates that arrive while a count query runs are added on top of its result. A commit the query
+// already saw whose update arrives after the query started is counted twice, until the next reconciliation.
+@Component
+public class DashboardCounterRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounterRegistry.class);
+
+    private final DashboardStatsService dashboardStatsService;
+
+    private final EnumCounters<Application.ApplicationStatus> applications = new EnumCounters<>(Application.ApplicationStatus.class);
+    private final EnumCounters<Review.ReviewStatus> reviews = new EnumCounters<>(Review.ReviewStatus.class);
+    private final EnumCounters<Inspection.InspectionResult> inspections = new EnumCounters<>(Inspection.InspectionResult.class);
+    private final EnumCounters<User.Role> users = new EnumCounters<>(User.Role.class);
+
+    // Not tracked incrementally, refreshed on every reconciliation
+    private volatile long totalFoodTrucks;
+    private volatile long totalVendors;
+    private volatile LocalDateTime reconciledAt;
+
+    public DashboardCounterRegistry(DashboardStatsService dashboardStatsService) {
+        this.dashboardStatsService = dashboardStatsService;
+    }
+
+    // A null "from" means the row is new, a null "to" means it was removed
+    public void recordApplicationTransition(Application.ApplicationStatus from, Application.ApplicationStatus to) {
+        if (from != to) {
+            afterCommit(() -> applications.move(from, to));
+        }
+    }
+
+    // A bulk transition of count applications
+    public void recordApplicationTransitions(Application.ApplicationStatus from, Application.ApplicationStatus to, long count) {
+        if (from != to && count > 0) {
+            afterCommit(() -> applications.move(from, to, count));
+        }
+    }
+
+    public void recordReviewTransition(Review.ReviewStatus from, Review.ReviewStatus to) {
+        if (from != to) {
+            afterCommit(() -> reviews.move(from, to));
+        }
+    }
+
+    public void recordInspectionTransition(Inspection.InspectionResult from, Inspection.InspectionResult to) {
+        if (from != to) {
+            afterCommit(() -> inspections.move(from, to));
+        }
+    }
+
+    public void recordUserRegistered(User.Role role) {
+        afterCommit(() -> users.move(null, role));
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = dashboardStatsService.buildStats(
+                applications.snapshot(),
+                inspections.snapshot(),
+                reviews.snapshot(),
+                users.snapshot(),
+                totalFoodTrucks,
+                totalVendors);
+        stats.put("reconciledAt", reconciledAt);
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile-interval-ms:60000}",
+            initialDelayString = "${dashboard.counters.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            applications.reconcile(dashboardStatsService::countApplicationsByStatus);
+            reviews.reconcile(dashboardStatsService::countReviewsByStatus);
+            inspections.reconcile(dashboardStatsService::countInspectionsByResult);
+            users.reconcile(dashboardStatsService::countUsersByRole);
+            totalFoodTrucks = dashboardStatsService.countFoodTrucks();
+            totalVendors = dashboardStatsService.countVendors();
+            reconciledAt = LocalDateTime.now();
+        } catch (RuntimeException e) {
+            log.warn("Dashboard counter reconciliation failed, keeping previous values", e);
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // One LongAdder per enum constant, so concurrent updates to different statuses do not contend. Updates
+    // share the read side of the lock; reconciliation takes the write side only to start recording the
+    // updates made during its count query and to swap in the counted values plus those updates, so no
+    // update lands in a counter while it is being replaced.
+    private static final class EnumCounters<E extends Enum<E>> {
+        private final Class<E> type;
+        private final StampedLock lock = new StampedLock();
+        private LongAdder[] counters;
+        // The updates made since the running reconciliation started, null when none runs
+        private LongAdder[] sinceReconcile;
+
+        EnumCounters(Class<E> type) {
+            this.type = type;
+            this.counters = newCounters();
+        }
+
+        void move(E from, E to) {
+            long stamp = lock.readLock();
+            try {
+                if (from != null) {
+                    add(from, -1);
+                }
+                if (to != null) {
+                    add(to, 1);
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void move(E from, E to, long count) {
+            long stamp = lock.readLock();
+            try {
+                add(from, -count);
+                add(to, count);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // Replaces the counters with the given count, plus whatever moved while it ran; if the count
+        // fails, the counters keep their values
+        void reconcile(Supplier<Map<E, Long>> count) {
+            LongAdder[] since = newCounters();
+            long stamp = lock.writeLock();
+            sinceReconcile = since;
+            lock.unlockWrite(stamp);
+
+            Map<E, Long> values = null;
+            try {
+                values = count.get();
+            } finally {
+                stamp = lock.writeLock();
+                try {
+                    if (values != null) {
+                        LongAdder[] reconciled = newCounters();
+                        for (E constant : type.getEnumConstants()) {
+                            reconciled[constant.ordinal()].add(values.getOrDefault(constant, 0L)
+                                    + since[constant.ordinal()].sum());
+                        }
+                        counters = reconciled;
+                    }
+                    sinceReconcile = null;
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+        }
+
+        Map<E, Long> snapshot() {
+            long stamp = lock.readLock();
+            try {
+                Map<E, Long> values = new EnumMap<>(type);
+                for (E constant : type.getEnumConstants()) {
+                    values.put(constant, counters[constant.ordinal()].sum());
+                }
+                return values;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // Called under the read lock
+        private void add(E constant, long delta) {
+            counters[constant.ordinal()].add(delta);
+            if (sinceReconcile != null) {
+                sinceReconcile[constant.ordinal()].add(delta);
+            }
+        }
+
+        private LongAdder[] newCounters() {
+            LongAdder[] fresh = new LongAdder[type.getEnumConstants().length];
+            for (int i = 0; i < fresh.length; i++) {
+                fresh[i] = new LongAdder();
+            }
+            return fresh;
+        }
+    }
+}
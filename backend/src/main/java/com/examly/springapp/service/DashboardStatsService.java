@@ -0,0 +1,167 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.repository.FoodTruckRepository;
+import com.examly.springapp.repository.InspectionRepository;
+import com.examly.springapp.repository.ReviewRepository;
+import com.examly.springapp.repository.UserRepository;
+import com.examly.springapp.repository.VendorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Dashboard statistics built from grouped COUNT queries, so no entities are loaded
+@Service
+@Transactional(readOnly = true)
+public class DashboardStatsService {
+
+    private final ApplicationRepository applicationRepository;
+    private final InspectionRepository inspectionRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final VendorRepository vendorRepository;
+    private final FoodTruckRepository foodTruckRepository;
+
+    public DashboardStatsService(ApplicationRepository applicationRepository,
+                                 InspectionRepository inspectionRepository,
+                                 ReviewRepository reviewRepository,
+                                 UserRepository userRepository,
+                                 VendorRepository vendorRepository,
+                                 FoodTruckRepository foodTruckRepository) {
+        this.applicationRepository = applicationRepository;
+        this.inspectionRepository = inspectionRepository;
+        this.reviewRepository = reviewRepository;
+        this.userRepository = userRepository;
+        this.vendorRepository = vendorRepository;
+        this.foodTruckRepository = foodTruckRepository;
+    }
+
+    public Map<String, Object> getDashboardStats() {
+        return buildStats(
+                countApplicationsByStatus(),
+                countInspectionsByResult(),
+                countReviewsByStatus(),
+                countUsersByRole(),
+                countFoodTrucks(),
+                countVendors());
+    }
+
+    public long countFoodTrucks() {
+        return foodTruckRepository.count();
+    }
+
+    public long countVendors() {
+        return vendorRepository.count();
+    }
+
+    public Map<Application.ApplicationStatus, Long> countApplicationsByStatus() {
+        return toEnumMap(Application.ApplicationStatus.class, applicationRepository.countGroupedByStatus(), null);
+    }
+
+    // Inspections without a result are still pending
+    public Map<Inspection.InspectionResult, Long> countInspectionsByResult() {
+        return toEnumMap(Inspection.InspectionResult.class, inspectionRepository.countGroupedByResult(),
+                Inspection.InspectionResult.IN_PROGRESS);
+    }
+
+    // Reviews without a status are still pending
+    public Map<Review.ReviewStatus, Long> countReviewsByStatus() {
+        return toEnumMap(Review.ReviewStatus.class, reviewRepository.countGroupedByReviewStatus(),
+                Review.ReviewStatus.IN_PROGRESS);
+    }
+
+    public Map<User.Role, Long> countUsersByRole() {
+        return toEnumMap(User.Role.class, userRepository.countGroupedByRole(), null);
+    }
+
+    // Builds the dashboard payload from per-status counts, whatever their source
+    public Map<String, Object> buildStats(Map<Application.ApplicationStatus, Long> applications,
+                                          Map<Inspection.InspectionResult, Long> inspections,
+                                          Map<Review.ReviewStatus, Long> reviews,
+                                          Map<User.Role, Long> users,
+                                          long totalFoodTrucks,
+                                          long totalVendors) {
+        Map<String, Object> stats = new HashMap<>();
+
+        // User counts by role
+        long totalAdmins = users.getOrDefault(User.Role.ADMIN, 0L);
+        long totalInspectors = users.getOrDefault(User.Role.INSPECTOR, 0L);
+        long totalReviewers = users.getOrDefault(User.Role.REVIEWER, 0L);
+        long totalUsers = totalAdmins + totalInspectors + totalReviewers + totalVendors;
+
+        stats.put("totalUsers", totalUsers);
+        stats.put("totalAdmins", totalAdmins);
+        stats.put("totalInspectors", totalInspectors);
+        stats.put("totalReviewers", totalReviewers);
+        stats.put("totalVendors", totalVendors);
+
+        // Application statistics
+        long totalApplications = sum(applications);
+        long approvedApplications = applications.getOrDefault(Application.ApplicationStatus.APPROVED, 0L);
+
+        stats.put("totalApplications", totalApplications);
+        stats.put("submittedApplications", applications.getOrDefault(Application.ApplicationStatus.SUBMITTED, 0L));
+        stats.put("approvedApplications", approvedApplications);
+        stats.put("rejectedApplications", applications.getOrDefault(Application.ApplicationStatus.REJECTED, 0L));
+
+        // Food truck statistics
+        stats.put("totalFoodTrucks", totalFoodTrucks);
+
+        // Inspection statistics
+        long totalInspections = sum(inspections);
+        long passedInspections = inspections.getOrDefault(Inspection.InspectionResult.PASS, 0L);
+
+        stats.put("totalInspections", totalInspections);
+        stats.put("passedInspections", passedInspections);
+        stats.put("failedInspections", inspections.getOrDefault(Inspection.InspectionResult.FAIL, 0L));
+        stats.put("pendingInspections", inspections.getOrDefault(Inspection.InspectionResult.IN_PROGRESS, 0L));
+
+        // Review statistics
+        long totalReviews = sum(reviews);
+        long approvedReviews = reviews.getOrDefault(Review.ReviewStatus.APPROVED, 0L);
+
+        stats.put("totalReviews", totalReviews);
+        stats.put("approvedReviews", approvedReviews);
+        stats.put("rejectedReviews", reviews.getOrDefault(Review.ReviewStatus.REJECTED, 0L));
+        stats.put("pendingReviews", reviews.getOrDefault(Review.ReviewStatus.IN_PROGRESS, 0L));
+
+        // Calculate success rates
+        stats.put("applicationApprovalRate", rate(approvedApplications, totalApplications));
+        stats.put("inspectionPassRate", rate(passedInspections, totalInspections));
+        stats.put("reviewApprovalRate", rate(approvedReviews, totalReviews));
+
+        return stats;
+    }
+
+    // Rows are [enum constant, count]; a null group is folded into nullBucket, or dropped if that is null
+    private static <E extends Enum<E>> Map<E, Long> toEnumMap(Class<E> type, List<Object[]> rows, E nullBucket) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (Object[] row : rows) {
+            E key = type.cast(row[0]);
+            if (key == null) {
+                key = nullBucket;
+            }
+            if (key != null) {
+                counts.merge(key, ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static long sum(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static double rate(long part, long total) {
+        double percentage = total > 0 ? (part * 100.0) / total : 0.0;
+        return Math.round(percentage * 10.0) / 10.0;
+    }
+}
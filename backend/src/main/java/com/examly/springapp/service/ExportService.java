@@ -0,0 +1,241 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ApplicationWithDetailsDto;
+import com.examly.springapp.dto.InspectionExportDto;
+import com.examly.springapp.dto.ReviewExportDto;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Brand;
+import com.examly.springapp.model.FoodTruck;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import com.examly.springapp.model.Vendor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Writes exports straight from forward-only query streams of flat DTO rows. No entity is loaded,
+// so the persistence context stays empty and heap use does not grow with the number of rows.
+// Only the filters a request sets become predicates, so each export query can use the
+// (filter, date) indexes. The fetch size applies to these queries alone: Integer.MIN_VALUE makes
+// MySQL Connector/J stream rows one at a time instead of buffering the whole result.
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final List<String> APPLICATION_COLUMNS = List.of(
+            "id", "submissionDate", "status", "foodTruckId", "foodTruckLocation", "operatingRegion",
+            "cuisineSpecialties", "brandName", "vendorName", "vendorEmail", "reviewId", "reviewerName");
+
+    private static final List<String> INSPECTION_COLUMNS = List.of(
+            "id", "inspectionDate", "result", "foodTruckId", "foodTruckLocation", "operatingRegion",
+            "cuisineSpecialties", "brandName", "vendorName", "vendorEmail", "inspectorId", "inspectorName");
+
+    private static final List<String> REVIEW_COLUMNS = List.of(
+            "id", "reviewDate", "reviewStatus", "reviewerId", "reviewerName", "applicationId", "submissionDate",
+            "applicationStatus", "foodTruckId", "foodTruckLocation", "operatingRegion", "cuisineSpecialties",
+            "brandName", "vendorName", "vendorEmail");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExportService(ObjectMapper objectMapper,
+                         @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportApplications(Application.ApplicationStatus status, LocalDateTime from, LocalDateTime to,
+                                   Format format, OutputStream out) throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationWithDetailsDto> query = cb.createQuery(ApplicationWithDetailsDto.class);
+        Root<Application> a = query.from(Application.class);
+        Join<Application, FoodTruck> ft = a.join("foodTruck", JoinType.LEFT);
+        Join<FoodTruck, Brand> b = ft.join("brand", JoinType.LEFT);
+        Join<Brand, Vendor> v = b.join("vendor", JoinType.LEFT);
+        Join<Application, Review> r = a.join("review", JoinType.LEFT);
+        Join<Review, User> u = r.join("reviewer", JoinType.LEFT);
+        query.select(cb.construct(ApplicationWithDetailsDto.class,
+                        a.get("id"), a.get("submissionDate"), a.get("status"), ft.get("id"), ft.get("location"),
+                        ft.get("operatingRegion"), ft.get("cuisineSpecialties"), b.get("brandName"), v.get("name"),
+                        v.get("email"), r.get("id"), u.get("name")))
+                .where(filters(cb, a.get("status"), status, a.get("submissionDate"), from, to))
+                .orderBy(cb.asc(a.get("id")));
+        try (Stream<?> rows = stream(query)) {
+            write(rows, APPLICATION_COLUMNS, format, out);
+        }
+    }
+
+    public void exportInspections(Inspection.InspectionResult result, LocalDateTime from, LocalDateTime to,
+                                  Format format, OutputStream out) throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InspectionExportDto> query = cb.createQuery(InspectionExportDto.class);
+        Root<Inspection> i = query.from(Inspection.class);
+        Join<Inspection, FoodTruck> ft = i.join("foodTruck", JoinType.LEFT);
+        Join<FoodTruck, Brand> b = ft.join("brand", JoinType.LEFT);
+        Join<Brand, Vendor> v = b.join("vendor", JoinType.LEFT);
+        Join<Inspection, User> u = i.join("inspector", JoinType.LEFT);
+        query.select(cb.construct(InspectionExportDto.class,
+                        i.get("id"), i.get("inspectionDate"), i.get("result"), ft.get("id"), ft.get("location"),
+                        ft.get("operatingRegion"), ft.get("cuisineSpecialties"), b.get("brandName"), v.get("name"),
+                        v.get("email"), u.get("id"), u.get("name")))
+                .where(filters(cb, i.get("result"), result, i.get("inspectionDate"), from, to))
+                .orderBy(cb.asc(i.get("id")));
+        try (Stream<?> rows = stream(query)) {
+            write(rows, INSPECTION_COLUMNS, format, out);
+        }
+    }
+
+    public void exportReviews(Review.ReviewStatus status, LocalDateTime from, LocalDateTime to,
+                              Format format, OutputStream out) throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReviewExportDto> query = cb.createQuery(ReviewExportDto.class);
+        Root<Review> r = query.from(Review.class);
+        Join<Review, User> u = r.join("reviewer", JoinType.LEFT);
+        Join<Review, Application> a = r.join("application", JoinType.LEFT);
+        Join<Application, FoodTruck> ft = a.join("foodTruck", JoinType.LEFT);
+        Join<FoodTruck, Brand> b = ft.join("brand", JoinType.LEFT);
+        Join<Brand, Vendor> v = b.join("vendor", JoinType.LEFT);
+        query.select(cb.construct(ReviewExportDto.class,
+                        r.get("id"), r.get("reviewDate"), r.get("reviewStatus"), u.get("id"), u.get("name"),
+                        a.get("id"), a.get("submissionDate"), a.get("status"), ft.get("id"), ft.get("location"),
+                        ft.get("operatingRegion"), ft.get("cuisineSpecialties"), b.get("brandName"), v.get("name"),
+                        v.get("email")))
+                .where(filters(cb, r.get("reviewStatus"), status, r.get("reviewDate"), from, to))
+                .orderBy(cb.asc(r.get("id")));
+        try (Stream<?> rows = stream(query)) {
+            write(rows, REVIEW_COLUMNS, format, out);
+        }
+    }
+
+    public static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format + " (use ndjson or csv)");
+        }
+    }
+
+    // Streamed response with the content type and attachment file name of the format
+    public static ResponseEntity<StreamingResponseBody> streamed(String name, Format format, StreamingResponseBody body) {
+        MediaType mediaType = format == Format.CSV ? MediaType.valueOf("text/csv") : MediaType.APPLICATION_NDJSON;
+        String fileName = name + (format == Format.CSV ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    // A 400 with the usual {"error": ...} body; the export endpoints are typed for a streamed body, which
+    // is what lets Spring MVC run them asynchronously, so the error is written the same way
+    public ResponseEntity<StreamingResponseBody> badRequest(String message) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, Map.of("error", message)));
+    }
+
+    // Equality on the status column and a [from, to) window on the date column, each only when given
+    private static Predicate[] filters(CriteriaBuilder cb, Path<?> statusColumn, Object status,
+                                       Path<LocalDateTime> dateColumn, LocalDateTime from, LocalDateTime to) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(statusColumn, status));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dateColumn, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(dateColumn, to));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    // Forward-only stream of the query's rows; must be consumed inside the transaction
+    private <R> Stream<R> stream(CriteriaQuery<R> query) {
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private void write(Stream<?> rows, List<String> columns, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsvLine(writer, columns);
+        }
+
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object row = iterator.next();
+            if (format == Format.CSV) {
+                writeCsvLine(writer, values(row, columns));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static List<String> values(Object row, List<String> columns) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(row);
+        return columns.stream()
+                .map(column -> {
+                    Object value = wrapper.getPropertyValue(column);
+                    return value != null ? value.toString() : "";
+                })
+                .toList();
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(fields.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // Quotes fields containing separators, quotes or line breaks (RFC 4180)
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,9 +1,13 @@
 package com.examly.springapp.service;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.examly.springapp.config.CacheConfig;
+import com.examly.springapp.dto.FoodTruckSummaryDto;
 import com.examly.springapp.model.Application;
 import com.examly.springapp.model.Brand;
 import com.examly.springapp.model.Document;
@@ -41,10 +45,15 @@ public class FoodTruckService {
     @Autowired
     private VendorRepository vendorRepository;
 
+    @Autowired
+    private CatalogueCacheService catalogueCache;
+
     public FoodTruck saveFoodTruck(Long brandId, FoodTruck foodTruck) {
         Brand brand = brandRepository.findById(brandId)
                 .orElseThrow(() -> new RuntimeException("Brand not found with ID: " + brandId));
         foodTruck.setBrand(brand);
+        brand.touch();
+        catalogueCache.evictFoodTruck(null, brandId);
         return foodTruckRepository.save(foodTruck);
     }
 
@@ -56,6 +65,8 @@ public class FoodTruckService {
         FoodTruck foodTruck = creationDTO.getFoodTruck();
         foodTruck.setBrand(brand);
         FoodTruck savedFoodTruck = foodTruckRepository.save(foodTruck);
+        brand.touch();
+        catalogueCache.evictFoodTruck(null, brandId);
 
         // Get the vendor
         Vendor vendor = vendorRepository.findById(creationDTO.getVendorId())
@@ -94,24 +105,45 @@ public class FoodTruckService {
         return savedFoodTruck;
     }
 
+    // Cached trucks are serialized after the transaction ends, so their menus are loaded up front
+    @Cacheable(cacheNames = CacheConfig.FOOD_TRUCKS, key = "'" + CacheConfig.ALL + "'")
     public List<FoodTruck> getAllFoodTrucks() {
-        return foodTruckRepository.findAll();
+        return withMenus(foodTruckRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FoodTruckSummaryDto> findAllSummaries() {
+        return foodTruckRepository.findAllSummaries();
     }
 
+    @Cacheable(cacheNames = CacheConfig.FOOD_TRUCK, key = "#id", unless = "#result == null")
     public Optional<FoodTruck> getFoodTruckById(Long id) {
-        return foodTruckRepository.findById(id);
+        return foodTruckRepository.findDetailById(id);
     }
 
+    @Cacheable(cacheNames = CacheConfig.FOOD_TRUCKS_BY_BRAND, key = "#brandId")
     public List<FoodTruck> getFoodTrucksByBrandId(Long brandId) {
-        return foodTruckRepository.findByBrandId(brandId);
+        return withMenus(foodTruckRepository.findByBrandId(brandId));
+    }
+
+    // Menus are batch-loaded, default_batch_fetch_size trucks per query
+    private static List<FoodTruck> withMenus(List<FoodTruck> foodTrucks) {
+        foodTrucks.forEach(truck -> Hibernate.initialize(truck.getMenuItems()));
+        return foodTrucks;
     }
 
     public void deleteFoodTruck(Long id) {
+        foodTruckRepository.findById(id).ifPresent(truck -> {
+            truck.getBrand().touch();
+            catalogueCache.evictDeletedFoodTruck(id, truck.getBrandId());
+        });
         foodTruckRepository.deleteById(id);
     }
 
     public void deleteAllFoodTrucks() {
         foodTruckRepository.deleteAll();
+        brandRepository.findAll().forEach(Brand::touch);
+        catalogueCache.evictAll();
     }
 
     public FoodTruck putFoodTruck(Long id, FoodTruck updatedFoodTruck) {
@@ -123,6 +155,9 @@ public class FoodTruckService {
         existingFoodTruck.setCuisineSpecialties(updatedFoodTruck.getCuisineSpecialties());
         existingFoodTruck.setMenuHighlights(updatedFoodTruck.getMenuHighlights());
 
+        // The brand JSON embeds its trucks
+        existingFoodTruck.getBrand().touch();
+        catalogueCache.evictFoodTruck(id, existingFoodTruck.getBrandId());
         return foodTruckRepository.save(existingFoodTruck);
     }
 
@@ -143,6 +178,9 @@ public class FoodTruckService {
             existingFoodTruck.setMenuHighlights(updatedFoodTruck.getMenuHighlights());
         }
 
+        // The brand JSON embeds its trucks
+        existingFoodTruck.getBrand().touch();
+        catalogueCache.evictFoodTruck(id, existingFoodTruck.getBrandId());
         return foodTruckRepository.save(existingFoodTruck);
     }
 
@@ -197,6 +235,9 @@ public class FoodTruckService {
             }
         }
 
+        // The brand JSON embeds its trucks
+        existingFoodTruck.getBrand().touch();
+        catalogueCache.evictFoodTruck(id, existingFoodTruck.getBrandId());
         return foodTruckRepository.save(existingFoodTruck);
     }
 
@@ -208,6 +249,8 @@ public class FoodTruckService {
             foodTruck.setBrand(brand);
         }
 
+        brand.touch();
+        catalogueCache.evictFoodTruck(null, brandId);
         return foodTruckRepository.saveAll(foodTrucks);
     }
 
@@ -221,11 +264,10 @@ public class FoodTruckService {
                 .orElseThrow(() -> new RuntimeException("Brand not found"));
             foodTruck.setBrand(brand);
             
-            // Set default application status
-            foodTruck.setApplicationStatus(Application.ApplicationStatus.SUBMITTED);
-            
             // Save food truck first
             FoodTruck savedFoodTruck = foodTruckRepository.save(foodTruck);
+            brand.touch();
+            catalogueCache.evictFoodTruck(null, brandId);
             
             // Create application
             Application application = new Application();
@@ -1,5 +1,7 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.CursorPage;
+import com.examly.springapp.dto.InspectionSummaryDto;
 import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.Inspection;
 import com.examly.springapp.model.User;
@@ -7,10 +9,15 @@ import com.examly.springapp.repository.FoodTruckRepository;
 import com.examly.springapp.repository.InspectionRepository;
 import com.examly.springapp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +31,12 @@ public class InspectionService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardCounterRegistry dashboardCounters;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     public InspectionService(InspectionRepository inspectionRepository) {
         this.inspectionRepository = inspectionRepository;
     }
@@ -32,10 +45,20 @@ public class InspectionService {
         return inspectionRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<InspectionSummaryDto> findAllSummaries() {
+        return inspectionRepository.findAllSummaries();
+    }
+
     public Optional<Inspection> findById(Long id) {
         return inspectionRepository.findById(id);
     }
 
+    // Everything the single-inspection JSON shows, see Inspection.DETAIL_GRAPH
+    public Optional<Inspection> findDetailById(Long id) {
+        return inspectionRepository.findDetailById(id);
+    }
+
     public Inspection save(Inspection inspection) {
         return inspectionRepository.save(inspection);
     }
@@ -59,6 +82,31 @@ public class InspectionService {
         return inspectionRepository.getInspectionsByInspectorIdAndResult(inspectorId, Inspection.InspectionResult.IN_PROGRESS);
     }
 
+    // Paginated inspections for an inspector, optionally filtered by result
+    @Transactional(readOnly = true)
+    public Page<Inspection> findByInspectorIdPaginated(Long inspectorId, Inspection.InspectionResult result, int page, int size, String sortBy, String sortDirection) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        if (result != null) {
+            return inspectionRepository.findByInspectorIdAndResult(pageable, inspectorId, result);
+        }
+        return inspectionRepository.findByInspectorId(pageable, inspectorId);
+    }
+
+    // Keyset pagination over an inspector's inspections, optionally filtered by result
+    @Transactional(readOnly = true)
+    public CursorPage<Inspection> findByInspectorIdByCursor(Long inspectorId, Inspection.InspectionResult result, String after, int size, String sortBy, String sortDirection) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return keysetPaginator.page(Inspection.class, Inspection.LIST_GRAPH, after, size, sortBy, direction, (root, cb) -> {
+            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("inspector").get("id"), inspectorId));
+            if (result != null) {
+                predicates.add(cb.equal(root.get("result"), result));
+            }
+            return predicates;
+        });
+    }
+
     // Get inspector statistics
     public InspectorStats getInspectorStats(Long inspectorId) {
         long totalInspections = inspectionRepository.countByInspectorId(inspectorId);
@@ -94,7 +142,9 @@ public class InspectionService {
         inspection.setResult(Inspection.InspectionResult.IN_PROGRESS);
 
         // Save and return the inspection
-        return inspectionRepository.save(inspection);
+        Inspection savedInspection = inspectionRepository.save(inspection);
+        dashboardCounters.recordInspectionTransition(null, savedInspection.getResult());
+        return savedInspection;
     }
 
     @Transactional
@@ -104,6 +154,7 @@ public class InspectionService {
                 .orElseThrow(() -> new RuntimeException("Inspection not found with id: " + inspectionId));
 
         // Update the result and date
+        dashboardCounters.recordInspectionTransition(inspection.getResult(), result);
         inspection.setResult(result);
         inspection.setInspectionDate(LocalDateTime.now());
 
@@ -116,6 +167,7 @@ public class InspectionService {
         Inspection inspection = inspectionRepository.findById(inspectionId)
                 .orElseThrow(() -> new RuntimeException("Inspection not found with id: " + inspectionId));
 
+        dashboardCounters.recordInspectionTransition(inspection.getResult(), result);
         inspection.setResult(result);
         inspection.setInspectionDate(LocalDateTime.now());
         return inspectionRepository.save(inspection);
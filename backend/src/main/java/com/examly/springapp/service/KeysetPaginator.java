@@ -0,0 +1,177 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.CursorPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// Keyset (seek) pagination: each slice continues after the (sortKey, id) of the previous
+// slice's last row, so deep slices cost the same as the first one and no count query runs.
+// Rows with a null sort key are ordered the way MySQL and H2 do it: first ascending, last descending.
+@Component
+public class KeysetPaginator {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Extra WHERE conditions of a listing, e.g. the reviewer or status filter
+    @FunctionalInterface
+    public interface Filter<T> {
+        List<Predicate> apply(Root<T> root, CriteriaBuilder cb);
+    }
+
+    // fetchGraph names the entity graph the rows are loaded with
+    public <T> CursorPage<T> page(Class<T> type, String fetchGraph, String after, int size, String sortBy,
+                                  Sort.Direction direction, Filter<T> filter) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        requireSortable(type, sortBy);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        Path<Comparable<Object>> sortKey = root.get(sortBy);
+        Path<Long> id = root.get(ID);
+
+        List<Predicate> predicates = new ArrayList<>(filter.apply(root, cb));
+        if (after != null && !after.isEmpty()) {
+            Cursor cursor = Cursor.decode(after, sortBy, direction, sortKey.getJavaType());
+            predicates.add(after(cb, sortKey, id, direction, cursor));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(direction.isAscending()
+                        ? List.of(cb.asc(sortKey), cb.asc(id))
+                        : List.of(cb.desc(sortKey), cb.desc(id)));
+
+        // Fetch one extra row to know whether another slice follows
+        List<T> rows = entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, entityManager.getEntityGraph(fetchGraph))
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BeanWrapperImpl last = new BeanWrapperImpl(content.get(content.size() - 1));
+            nextCursor = new Cursor(sortBy, direction, (Long) last.getPropertyValue(ID),
+                    last.getPropertyValue(sortBy)).encode();
+        }
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    // Checked before the first query: a key the cursor cannot carry, such as an association, would
+    // only fail when the second slice is requested
+    private <T> void requireSortable(Class<T> type, String sortBy) {
+        Attribute<? super T, ?> attribute = entityManager.getMetamodel().entity(type).getAttributes().stream()
+                .filter(a -> a.getName().equals(sortBy))
+                .findFirst()
+                .orElse(null);
+        if (attribute == null || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                || !Cursor.canCarry(attribute.getJavaType())) {
+            throw new IllegalArgumentException("Cannot paginate by " + sortBy);
+        }
+    }
+
+    private static Predicate after(CriteriaBuilder cb, Path<Comparable<Object>> sortKey, Path<Long> id,
+                                   Sort.Direction direction, Cursor cursor) {
+        boolean ascending = direction.isAscending();
+        Predicate idAfter = ascending ? cb.greaterThan(id, cursor.id) : cb.lessThan(id, cursor.id);
+
+        if (cursor.sortValue == null) {
+            Predicate sameNullKey = cb.and(cb.isNull(sortKey), idAfter);
+            // Ascending, the non-null keys come after the nulls; descending, nothing does
+            return ascending ? cb.or(sameNullKey, cb.isNotNull(sortKey)) : sameNullKey;
+        }
+
+        Comparable<Object> value = cursor.sortValue;
+        Predicate keyAfter = ascending ? cb.greaterThan(sortKey, value) : cb.lessThan(sortKey, value);
+        Predicate sameKey = cb.and(cb.equal(sortKey, value), idAfter);
+        // Descending, the null keys come last
+        return ascending ? cb.or(keyAfter, sameKey) : cb.or(keyAfter, sameKey, cb.isNull(sortKey));
+    }
+
+    // Opaque cursor: base64url of "sortBy|direction|id|=value", the value part is omitted when null
+    private static final class Cursor {
+        private final String sortBy;
+        private final Sort.Direction direction;
+        private final Long id;
+        private final Comparable<Object> sortValue;
+
+        @SuppressWarnings("unchecked")
+        Cursor(String sortBy, Sort.Direction direction, Long id, Object sortValue) {
+            this.sortBy = sortBy;
+            this.direction = direction;
+            this.id = id;
+            this.sortValue = (Comparable<Object>) sortValue;
+        }
+
+        String encode() {
+            String raw = sortBy + "|" + direction + "|" + id + (sortValue != null ? "|=" + sortValue : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded, String sortBy, Sort.Direction direction, Class<?> sortType) {
+            String raw;
+            try {
+                raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length < 3 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+            if (parts.length == 4 && !parts[3].startsWith("=")) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            try {
+                Object value = parts.length == 4 ? parseValue(parts[3].substring(1), sortType) : null;
+                return new Cursor(sortBy, direction, Long.valueOf(parts[2]), value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+        }
+
+        // The sort key types parseValue can read back
+        static boolean canCarry(Class<?> type) {
+            return type == String.class || type == Long.class || type == long.class || type == Integer.class
+                    || type == int.class || type == Double.class || type == double.class
+                    || type == LocalDateTime.class || type == LocalDate.class || type.isEnum();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object parseValue(String value, Class<?> type) {
+            if (type == String.class) return value;
+            if (type == Long.class || type == long.class) return Long.valueOf(value);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(value);
+            if (type == Double.class || type == double.class) return Double.valueOf(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, value);
+            throw new IllegalArgumentException("Cannot paginate by a field of type " + type.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.MenuImportResult;
+import com.examly.springapp.model.FoodTruck;
+import com.examly.springapp.model.MenuItem;
+import com.examly.springapp.repository.FoodTruckRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Imports menu items line by line from an NDJSON or CSV body. Only one line and one chunk of
+// entities are held at a time, and each chunk of chunkSize valid rows commits in a transaction of its
+// own, so locks last one chunk. The import is not all-or-nothing: a chunk the database rejects rolls
+// back alone and its rows are reported as failed, and a body that breaks off keeps the chunks before it.
+@Service
+public class MenuItemImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuItemImportService.class);
+
+    public enum Format { NDJSON, CSV }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final FoodTruckRepository foodTruckRepository;
+    private final CatalogueCacheService catalogueCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public MenuItemImportService(FoodTruckRepository foodTruckRepository,
+                                 CatalogueCacheService catalogueCache,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${menu.import.chunk-size:500}") int chunkSize,
+                                 @Value("${menu.import.max-errors:100}") int maxErrors) {
+        this.foodTruckRepository = foodTruckRepository;
+        this.catalogueCache = catalogueCache;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public MenuImportResult importMenuItems(Long foodTruckId, InputStream body, Format format) throws IOException {
+        Long brandId = foodTruckRepository.findById(foodTruckId)
+                .orElseThrow(() -> new RuntimeException("Food Truck not found with ID: " + foodTruckId))
+                .getBrandId();
+
+        MenuImportResult result = new MenuImportResult(maxErrors);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        Map<String, Integer> csvColumns = null;
+        List<MenuItem> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            // Strip a UTF-8 byte order mark
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+
+            // The first CSV line is the header
+            if (format == Format.CSV && csvColumns == null) {
+                csvColumns = parseCsvHeader(line);
+                continue;
+            }
+
+            try {
+                MenuItem item = format == Format.CSV ? fromCsv(line, csvColumns) : fromJson(line);
+                validate(item);
+                chunk.add(item);
+                chunkLines.add(lineNumber);
+            } catch (IllegalArgumentException e) {
+                result.rowFailed(lineNumber, e.getMessage());
+            }
+
+            if (chunk.size() == chunkSize) {
+                saveChunk(foodTruckId, brandId, chunk, chunkLines, result);
+                chunk.clear();
+                chunkLines.clear();
+            }
+        }
+
+        if (format == Format.CSV && csvColumns == null) {
+            throw new IllegalArgumentException("CSV body is empty, expected a header line");
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(foodTruckId, brandId, chunk, chunkLines, result);
+        }
+        return result;
+    }
+
+    // Saves one chunk in its own transaction; lines holds the body line number of each item
+    private void saveChunk(Long foodTruckId, Long brandId, List<MenuItem> items, List<Long> lines,
+                           MenuImportResult result) {
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                FoodTruck foodTruck = entityManager.find(FoodTruck.class, foodTruckId);
+                if (foodTruck == null) {
+                    throw new RuntimeException("Food Truck not found with ID: " + foodTruckId);
+                }
+                for (MenuItem item : items) {
+                    item.setFoodTruck(foodTruck);
+                    entityManager.persist(item);
+                }
+                // The truck JSON embeds its menu and the brand JSON its trucks, so both versions move
+                foodTruck.touch();
+                foodTruck.getBrand().touch();
+                catalogueCache.evictMenu(foodTruckId, brandId);
+                // Under open-in-view every chunk shares the request's persistence context, which commit
+                // leaves as it is; cleared, it holds one chunk at a time
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("Menu import chunk for truck {} rolled back at lines {}-{}", foodTruckId, lines.get(0),
+                    lines.get(lines.size() - 1), e);
+            for (Long line : lines) {
+                result.rowFailed(line, "Rolled back with its chunk, the database rejected a row of it");
+            }
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            result.rowImported();
+        }
+    }
+
+    private MenuItem fromJson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+
+        MenuItem item = new MenuItem();
+        item.setName(text(node, "name"));
+        item.setDescription(text(node, "description"));
+        item.setImageURL(text(node, "imageURL"));
+        JsonNode price = node.get("price");
+        if (price != null && !price.isNull()) {
+            if (!price.isNumber()) {
+                throw new IllegalArgumentException("Price must be a number");
+            }
+            item.setPrice(price.doubleValue());
+        }
+        return item;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("price")) {
+            throw new IllegalArgumentException("CSV header must contain name and price columns");
+        }
+        return columns;
+    }
+
+    private static MenuItem fromCsv(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        MenuItem item = new MenuItem();
+        item.setName(column(values, columns, "name"));
+        item.setDescription(column(values, columns, "description"));
+        item.setImageURL(column(values, columns, "imageurl"));
+        String price = column(values, columns, "price");
+        if (price != null) {
+            try {
+                item.setPrice(Double.valueOf(price.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Price must be a number: " + price);
+            }
+        }
+        return item;
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    // Splits one CSV record; fields may be quoted, with "" as an escaped quote (no embedded newlines)
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void validate(MenuItem item) {
+        if (item.getName() == null || item.getName().isBlank()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        if (item.getPrice() == null) {
+            throw new IllegalArgumentException("Price is required");
+        }
+        if (item.getPrice() < 0) {
+            throw new IllegalArgumentException("Price must not be negative");
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.examly.springapp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.examly.springapp.config.CacheConfig;
 import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.MenuItem;
 import com.examly.springapp.repository.FoodTruckRepository;
@@ -12,6 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional
 public class MenuItemService {
 
     @Autowired
@@ -20,11 +24,16 @@ public class MenuItemService {
     @Autowired
     private FoodTruckRepository foodTruckRepository;
 
+    @Autowired
+    private CatalogueCacheService catalogueCache;
+
     public MenuItem saveMenuItem(Long truckId, MenuItem menuItem) {
         FoodTruck foodTruck = foodTruckRepository.findById(truckId)
                 .orElseThrow(() -> new RuntimeException("FoodTruck not found with ID: " + truckId));
         menuItem.setFoodTruck(foodTruck);
-        return menuItemRepository.save(menuItem);
+        MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+        menuChanged(foodTruck);
+        return savedMenuItem;
     }
 
     public List<MenuItem> saveMenuItems(Long foodTruckId, List<MenuItem> menuItems) {
@@ -35,7 +44,9 @@ public class MenuItemService {
             item.setFoodTruck(foodTruck);
         }
 
-        return menuItemRepository.saveAll(menuItems);
+        List<MenuItem> savedMenuItems = menuItemRepository.saveAll(menuItems);
+        menuChanged(foodTruck);
+        return savedMenuItems;
     }
 
     public List<MenuItem> getAllMenuItems() {
@@ -46,16 +57,36 @@ public class MenuItemService {
         return menuItemRepository.findById(id);
     }
 
+    @Cacheable(cacheNames = CacheConfig.MENU_ITEMS_BY_TRUCK, key = "#vendorId")
     public List<MenuItem> getMenuItemsByTruckId(Long vendorId) {
         return menuItemRepository.findByTruckId(vendorId);
     }
 
     public void deleteMenuItem(Long id) {
+        Optional<MenuItem> menuItem = menuItemRepository.findById(id);
         menuItemRepository.deleteById(id);
+        menuItem.ifPresent(item -> menuChanged(item.getFoodTruck()));
     }
 
     public void deleteAllMenuItems() {
         menuItemRepository.deleteAll();
+        foodTruckRepository.findAll().forEach(this::touchWithBrand);
+        catalogueCache.evictAll();
+    }
+
+    // The truck JSON embeds its menu and the brand JSON its trucks, so both versions move
+    private void menuChanged(FoodTruck foodTruck) {
+        if (foodTruck != null) {
+            touchWithBrand(foodTruck);
+            catalogueCache.evictMenu(foodTruck.getId(), foodTruck.getBrandId());
+        }
+    }
+
+    private void touchWithBrand(FoodTruck foodTruck) {
+        foodTruck.touch();
+        if (foodTruck.getBrand() != null) {
+            foodTruck.getBrand().touch();
+        }
     }
 
     public MenuItem patchMenuItem(Long id, MenuItem updatedMenuItem) {
@@ -74,7 +105,9 @@ public class MenuItemService {
             existingMenuItem.setImageURL(updatedMenuItem.getImageURL());
         }
 
-        return menuItemRepository.save(existingMenuItem);
+        MenuItem savedMenuItem = menuItemRepository.save(existingMenuItem);
+        menuChanged(savedMenuItem.getFoodTruck());
+        return savedMenuItem;
     }
 
     public MenuItem putMenuItem(Long id, MenuItem updatedMenuItem) {
@@ -85,7 +118,9 @@ public class MenuItemService {
         existingMenuItem.setPrice(updatedMenuItem.getPrice());
         existingMenuItem.setDescription(updatedMenuItem.getDescription());
         existingMenuItem.setImageURL(updatedMenuItem.getImageURL());
-        return menuItemRepository.save(existingMenuItem);
+        MenuItem savedMenuItem = menuItemRepository.save(existingMenuItem);
+        menuChanged(savedMenuItem.getFoodTruck());
+        return savedMenuItem;
     }
 
     public List<MenuItem> saveAllMenuItems(Long foodTruckId, List<MenuItem> menuItems) {
@@ -96,6 +131,8 @@ public class MenuItemService {
             item.setFoodTruck(foodTruck);
         }
 
-        return menuItemRepository.saveAll(menuItems);
+        List<MenuItem> savedMenuItems = menuItemRepository.saveAll(menuItems);
+        menuChanged(foodTruck);
+        return savedMenuItems;
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.CursorPage;
+import com.examly.springapp.dto.ReviewSummaryDto;
 import com.examly.springapp.model.Application;
+import com.examly.springapp.model.FoodTruck;
 import com.examly.springapp.model.Review;
 import com.examly.springapp.repository.ApplicationRepository;
 import com.examly.springapp.repository.ReviewRepository;
-import com.examly.springapp.repository.FoodTruckRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +28,13 @@ public class ReviewService {
     private ApplicationRepository applicationRepository;
     
     @Autowired
-    private FoodTruckRepository foodTruckRepository;
+    private DashboardCounterRegistry dashboardCounters;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private CatalogueCacheService catalogueCache;
 
     public ReviewService(ReviewRepository reviewRepository) {
         this.reviewRepository = reviewRepository;
@@ -35,10 +44,20 @@ public class ReviewService {
         return reviewRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<ReviewSummaryDto> findAllSummaries() {
+        return reviewRepository.findAllSummaries();
+    }
+
     public Optional<Review> findById(Long id) {
         return reviewRepository.findById(id);
     }
 
+    // Everything the single-review JSON shows, see Review.DETAIL_GRAPH
+    public Optional<Review> findDetailById(Long id) {
+        return reviewRepository.findDetailById(id);
+    }
+
     public Review save(Review review) {
         return reviewRepository.save(review);
     }
@@ -69,6 +88,20 @@ public class ReviewService {
         return reviewRepository.findByReviewerIdAndReviewStatus(pageable, reviewerId, status);
     }
 
+    // Keyset pagination over a reviewer's reviews, optionally filtered by status
+    @Transactional(readOnly = true)
+    public CursorPage<Review> findByReviewerIdByCursor(Long reviewerId, Review.ReviewStatus status, String after, int size, String sortBy, String sortDirection) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return keysetPaginator.page(Review.class, Review.LIST_GRAPH, after, size, sortBy, direction, (root, cb) -> {
+            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("reviewer").get("id"), reviewerId));
+            if (status != null) {
+                predicates.add(cb.equal(root.get("reviewStatus"), status));
+            }
+            return predicates;
+        });
+    }
+
     public Page<Review> findPendingReviewsByReviewer(Long reviewerId, int page, int size, String sortBy, String sortDirection) {
         return findByReviewerIdAndStatusPaginated(reviewerId, Review.ReviewStatus.IN_PROGRESS, page, size, sortBy, sortDirection);
     }
@@ -90,12 +123,14 @@ public class ReviewService {
                 .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
         
         // Update review status and date
+        dashboardCounters.recordReviewTransition(review.getReviewStatus(), newStatus);
         review.setReviewStatus(newStatus);
         review.setReviewDate(LocalDateTime.now());
         
         // Update the linked application status based on review status
         Application application = review.getApplication();
         if (application != null) {
+            Application.ApplicationStatus previousStatus = application.getStatus();
             switch (newStatus) {
                 case APPROVED:
                     application.setStatus(Application.ApplicationStatus.APPROVED);
@@ -107,11 +142,14 @@ public class ReviewService {
                     application.setStatus(Application.ApplicationStatus.IN_REVIEW);
                     break;
             }
+            dashboardCounters.recordApplicationTransition(previousStatus, application.getStatus());
+            application.setPersistedStatus(application.getStatus());
             
-            // Also update the FoodTruck application status to keep them synchronized
-            if (application.getFoodTruck() != null) {
-                application.getFoodTruck().setApplicationStatus(application.getStatus());
-                foodTruckRepository.save(application.getFoodTruck());
+            // The truck reads its status from the application row, and its ETag and its brand's follow the
+            // row's updatedAt; only the cached truck JSON needs to go
+            if (application.getFoodTruck() != null && previousStatus != application.getStatus()) {
+                FoodTruck foodTruck = application.getFoodTruck();
+                catalogueCache.evictFoodTruck(foodTruck.getId(), foodTruck.getBrandId());
             }
             
             applicationRepository.save(application);
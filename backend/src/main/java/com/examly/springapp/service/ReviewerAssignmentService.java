@@ -0,0 +1,183 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.dto.ReviewerAssignmentResult;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.repository.ReviewRepository;
+import com.examly.springapp.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Assigns submitted applications without a review to reviewers, oldest first, batchSize per transaction,
+// each to the reviewer with the fewest open (IN_PROGRESS) reviews, and moves them to IN_REVIEW. Applications
+// already past SUBMITTED keep their status even without a review. The loads sit in a min-heap rebuilt from the
+// database before every batch, so reviews assigned or finished elsewhere count. A batch locks its
+// applications and skips rows another node holds, so nodes running at once take disjoint batches;
+// the one-review-per-application constraint backs that up, and a batch that hits it rolls back and
+// its applications come round again.
+@Service
+public class ReviewerAssignmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewerAssignmentService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ApplicationRepository applicationRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final DashboardCounterRegistry dashboardCounters;
+    private final CatalogueCacheService catalogueCache;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxBatches;
+    private final boolean scheduled;
+
+    public ReviewerAssignmentService(ApplicationRepository applicationRepository,
+                                     ReviewRepository reviewRepository,
+                                     UserRepository userRepository,
+                                     DashboardCounterRegistry dashboardCounters,
+                                     CatalogueCacheService catalogueCache,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${reviewer.assignment.batch-size:100}") int batchSize,
+                                     @Value("${reviewer.assignment.max-batches:100}") int maxBatches,
+                                     @Value("${reviewer.assignment.scheduled:false}") boolean scheduled) {
+        this.applicationRepository = applicationRepository;
+        this.reviewRepository = reviewRepository;
+        this.userRepository = userRepository;
+        this.dashboardCounters = dashboardCounters;
+        this.catalogueCache = catalogueCache;
+        // Each batch commits on its own, also when called inside a request's read-only transaction
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.scheduled = scheduled;
+    }
+
+    @Scheduled(fixedDelayString = "${reviewer.assignment.interval-ms:60000}",
+            initialDelayString = "${reviewer.assignment.interval-ms:60000}")
+    public void assignOnSchedule() {
+        if (!scheduled) {
+            return;
+        }
+        try {
+            ReviewerAssignmentResult result = assignUnassigned();
+            if (result.getAssigned() > 0) {
+                log.info("Assigned {} applications to reviewers in {} batches", result.getAssigned(), result.getBatches());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Scheduled reviewer assignment failed", e);
+        }
+    }
+
+    // Runs batches until no unassigned application is left, no reviewer exists or maxBatches is reached
+    public ReviewerAssignmentResult assignUnassigned() {
+        ReviewerAssignmentResult result = new ReviewerAssignmentResult();
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Map<Long, Long> assigned;
+            try {
+                assigned = batchTransaction.execute(status -> assignBatch());
+            } catch (DataIntegrityViolationException e) {
+                log.info("Reviewer assignment batch conflicted with an assignment made elsewhere, retrying");
+                result.batchConflicted();
+                continue;
+            }
+            if (assigned == null || assigned.isEmpty()) {
+                break;
+            }
+            result.batchCommitted(assigned);
+        }
+        if (result.getAssigned() > 0) {
+            // The trucks show their application's status
+            catalogueCache.evictAllFoodTrucks();
+        }
+        return result;
+    }
+
+    // One transaction: reviewer id by application id for the batch
+    private Map<Long, Long> assignBatch() {
+        PriorityQueue<ReviewerLoad> reviewers = loadReviewers();
+        if (reviewers.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> unassigned = applicationRepository.lockUnassigned(Application.ApplicationStatus.SUBMITTED,
+                PageRequest.of(0, batchSize));
+        if (unassigned.isEmpty()) {
+            return Map.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> assigned = new LinkedHashMap<>();
+        for (Long applicationId : unassigned) {
+            ReviewerLoad reviewer = reviewers.poll();
+
+            Review review = new Review();
+            review.setApplication(entityManager.getReference(Application.class, applicationId));
+            review.setReviewer(entityManager.getReference(User.class, reviewer.reviewerId));
+            review.setReviewDate(now);
+            review.setReviewStatus(Review.ReviewStatus.IN_PROGRESS);
+            entityManager.persist(review);
+
+            reviewers.add(new ReviewerLoad(reviewer.reviewerId, reviewer.openReviews + 1));
+            assigned.put(applicationId, reviewer.reviewerId);
+            dashboardCounters.recordReviewTransition(null, Review.ReviewStatus.IN_PROGRESS);
+        }
+
+        // Flushes the review inserts as JDBC batches, then moves the whole batch in one UPDATE; the rows are
+        // locked, so every one of them is still SUBMITTED
+        int updated = applicationRepository.updateStatuses(assigned.keySet(), Application.ApplicationStatus.SUBMITTED,
+                Application.ApplicationStatus.IN_REVIEW);
+        if (updated != assigned.size()) {
+            throw new IllegalStateException("Updated " + updated + " applications, expected " + assigned.size());
+        }
+        dashboardCounters.recordApplicationTransitions(Application.ApplicationStatus.SUBMITTED,
+                Application.ApplicationStatus.IN_REVIEW, updated);
+        return assigned;
+    }
+
+    // Min-heap of every reviewer by open reviews, ties to the lower id
+    private PriorityQueue<ReviewerLoad> loadReviewers() {
+        Map<Long, Long> openReviews = new HashMap<>();
+        for (Object[] row : reviewRepository.countByReviewStatusGroupedByReviewer(Review.ReviewStatus.IN_PROGRESS)) {
+            openReviews.put((Long) row[0], (Long) row[1]);
+        }
+        PriorityQueue<ReviewerLoad> heap = new PriorityQueue<>(Comparator
+                .comparingLong((ReviewerLoad load) -> load.openReviews)
+                .thenComparingLong(load -> load.reviewerId));
+        for (User reviewer : userRepository.findByRole(User.Role.REVIEWER)) {
+            heap.add(new ReviewerLoad(reviewer.getId(), openReviews.getOrDefault(reviewer.getId(), 0L)));
+        }
+        return heap;
+    }
+
+    private static final class ReviewerLoad {
+        private final long reviewerId;
+        private final long openReviews;
+
+        ReviewerLoad(long reviewerId, long openReviews) {
+            this.reviewerId = reviewerId;
+            this.openReviews = openReviews;
+        }
+    }
+}
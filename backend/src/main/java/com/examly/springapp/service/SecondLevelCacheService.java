@@ -0,0 +1,67 @@
+package com.examly.springapp.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Hit/miss statistics and manual eviction for the Hibernate second-level and query caches.
+// Writes through JPA keep the caches current on their own; evictAll is for changes made
+// directly in the database.
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        stats.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        stats.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        stats.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+        stats.put("secondLevelCacheHitRate", hitRate(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()));
+
+        stats.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        stats.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        stats.put("queryCachePuts", statistics.getQueryCachePutCount());
+        stats.put("queryCacheHitRate", hitRate(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount()));
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hits", region.getHitCount());
+            regionStats.put("misses", region.getMissCount());
+            regionStats.put("puts", region.getPutCount());
+            regionStats.put("hitRate", hitRate(region.getHitCount(), region.getMissCount()));
+            regions.put(regionName, regionStats);
+        }
+        stats.put("regions", regions);
+
+        return stats;
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        double percentage = total > 0 ? (hits * 100.0) / total : 0.0;
+        return Math.round(percentage * 10.0) / 10.0;
+    }
+}
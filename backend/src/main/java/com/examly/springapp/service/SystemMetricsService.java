@@ -0,0 +1,52 @@
+package com.examly.springapp.service;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Service;
+
+// Live system figures for the super admin dashboard, read from the actuator's meters and health indicators
+@Service
+public class SystemMetricsService {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<HealthEndpoint> healthEndpoint;
+
+    public SystemMetricsService(MeterRegistry meterRegistry, ObjectProvider<HealthEndpoint> healthEndpoint) {
+        this.meterRegistry = meterRegistry;
+        this.healthEndpoint = healthEndpoint;
+    }
+
+    // Requests being served right now (the API is stateless, so there are no HTTP sessions to count)
+    public long activeRequests() {
+        return meterRegistry.find("http.server.requests.active").longTaskTimers().stream()
+                .mapToLong(LongTaskTimer::activeTasks)
+                .sum();
+    }
+
+    // Percentage of health indicators (database, disk space, ...) reporting UP
+    public int systemHealth() {
+        HealthEndpoint endpoint = healthEndpoint.getIfAvailable();
+        if (endpoint == null) {
+            return 0;
+        }
+        int[] upAndTotal = new int[2];
+        countIndicators(endpoint.health(), upAndTotal);
+        return upAndTotal[1] > 0 ? Math.round(upAndTotal[0] * 100f / upAndTotal[1]) : 0;
+    }
+
+    private static void countIndicators(HealthComponent health, int[] upAndTotal) {
+        if (health instanceof CompositeHealth composite && composite.getComponents() != null) {
+            composite.getComponents().values().forEach(component -> countIndicators(component, upAndTotal));
+            return;
+        }
+        if (Status.UP.equals(health.getStatus())) {
+            upAndTotal[0]++;
+        }
+        upAndTotal[1]++;
+    }
+}
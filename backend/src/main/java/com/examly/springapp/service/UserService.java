@@ -1,11 +1,13 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.UserSummaryDto;
 import com.examly.springapp.model.User;
 import com.examly.springapp.repository.UserRepository;
 import com.examly.springapp.exception.DuplicateUserEmailException;
 import com.examly.springapp.exception.UserNotFoundException;
 import com.examly.springapp.exception.InvalidUserPasswordException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,9 +15,11 @@ import java.util.Optional;
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final DashboardCounterRegistry dashboardCounters;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, DashboardCounterRegistry dashboardCounters) {
         this.userRepository = userRepository;
+        this.dashboardCounters = dashboardCounters;
     }
 
     public User register(User user) {
@@ -36,7 +40,9 @@ public class UserService {
         }
 
         // Save user with plain password (not recommended for production)
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        dashboardCounters.recordUserRegistered(savedUser.getRole());
+        return savedUser;
     }
 
     public User login(String email, String password, String role) {
@@ -62,6 +68,11 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<UserSummaryDto> findAllSummaries() {
+        return userRepository.findAllSummaries();
+    }
+
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
@@ -81,6 +92,7 @@ public class UserService {
         return userRepository.findByRole(role);
     }
 
+    @Transactional
     public User updateProfile(Long id, User updatedUser) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
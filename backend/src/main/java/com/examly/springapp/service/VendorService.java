@@ -2,6 +2,7 @@ package com.examly.springapp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.examly.springapp.exception.DuplicateVendorNameException;
 import com.examly.springapp.model.Vendor;
@@ -16,6 +17,9 @@ public class VendorService {
     @Autowired
     private VendorRepository vendorRepository;
 
+    @Autowired
+    private CatalogueCacheService catalogueCache;
+
     public List<Vendor> getAllVendors() {
         return vendorRepository.findAll();
     }
@@ -26,21 +30,25 @@ public class VendorService {
 
     public Vendor saveVendor(Vendor vendor) {
         String email = vendor.getEmail();
-        Optional<Vendor> v = vendorRepository.findByEmailIgnoreCase(email);
+        Optional<Vendor> v = vendorRepository.findByEmailUsingColumnCollation(email);
         if(v.isPresent()) {
             throw new DuplicateVendorNameException("A vendor with this email already exists");
         }
         return vendorRepository.save(vendor);
     }
 
+    // Deleting a vendor cascades to its brands, trucks and menus
     public void deleteVendor(Long id) {
         vendorRepository.deleteById(id);
+        catalogueCache.evictAll();
     }
 
     public void deleteAllVendors() {
         vendorRepository.deleteAll();
+        catalogueCache.evictAll();
     }
 
+    @Transactional
     public Vendor putVendor(Long id, Vendor updatedVendor) {
         Vendor existingVendor = vendorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Vendor not found with ID: " + id));
@@ -51,6 +59,7 @@ public class VendorService {
         return vendorRepository.save(existingVendor);
     }
 
+    @Transactional
     public Vendor patchVendor(Long id, Vendor updatedVendor) {
         Vendor existingVendor = vendorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Vendor not found with ID: " + id));
@@ -61,7 +70,7 @@ public class VendorService {
     
         if (updatedVendor.getEmail() != null) {
             // Check if new email is already taken by another vendor
-            Optional<Vendor> emailVendor = vendorRepository.findByEmailIgnoreCase(updatedVendor.getEmail());
+            Optional<Vendor> emailVendor = vendorRepository.findByEmailUsingColumnCollation(updatedVendor.getEmail());
             if (emailVendor.isPresent() && !emailVendor.get().getId().equals(id)) {
                 throw new DuplicateVendorNameException("A vendor with this email already exists");
             }
@@ -81,7 +90,7 @@ public class VendorService {
 
     public Vendor loginVendor(String email, String password) {
         System.out.println("Searching for email: " + email);
-        Vendor vendor = vendorRepository.findByEmailIgnoreCase(email)
+        Vendor vendor = vendorRepository.findByEmailUsingColumnCollation(email)
                 .orElseThrow(() -> new RuntimeException("Vendor not found"));
         
         if (!vendor.getPassword().equals(password)) {
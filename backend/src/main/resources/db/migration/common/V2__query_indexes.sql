@@ -0,0 +1,29 @@
+-- Indexes for the repository lookups, in filter-then-sort column order so pages come off the index
+-- already sorted and the counts read the index alone. Foreign key columns (trucks by brand, brands by
+-- vendor, menus by truck, documents and reviews by application, applications by truck) already have
+-- the index each foreign key constraint creates. Trailing id columns give keyset pages their tie-break
+-- order on H2; InnoDB appends the primary key to every secondary index anyway.
+
+-- Admin queues by status, newest first (findByStatus, getApplicationsByStatus, with-details, exports,
+-- grouped status counts), and the unfiltered pages sorted by submission date
+create index ix_applications_status_submitted on applications (status, submission_date, id);
+create index ix_applications_submitted on applications (submission_date, id);
+
+-- A reviewer's queue with and without a status filter, sorted by review date (findByReviewerId*,
+-- countByReviewerIdAndReviewStatus), and the status-filtered export window
+create index ix_reviews_reviewer_status_date on reviews (reviewer_id, review_status, review_date, id);
+create index ix_reviews_reviewer_date on reviews (reviewer_id, review_date, id);
+create index ix_reviews_status_date on reviews (review_status, review_date);
+
+-- The same shapes for an inspector's queue (findByInspectorId*, countByInspectorIdAndResult) and the
+-- result-filtered lists and exports
+create index ix_inspections_inspector_result_date on inspections (inspector_id, result, inspection_date, id);
+create index ix_inspections_inspector_date on inspections (inspector_id, inspection_date, id);
+create index ix_inspections_result_date on inspections (result, inspection_date);
+
+-- Logins and registration checks (findByEmail, findByEmailIgnoreCase), staff lists by role
+create index ix_ft_users_email on ft_users (email);
+create index ix_ft_users_role on ft_users (role);
+create index ix_vendors_email on vendors (email);
+
+create index ix_food_truck_vendor_name on food_truck_vendor (name);
@@ -0,0 +1,5 @@
+-- Application.status is the one record of an application's status; food trucks read it through a
+-- subselect (FoodTruck.applicationStatus) instead of keeping a copy in sync. Where the two copies had
+-- diverged the applications row wins, and a truck without an application shows as submitted, which
+-- was the copy's default, so the copy can go without moving any data.
+alter table food_trucks drop column application_status;
@@ -0,0 +1,123 @@
+-- Baseline schema for the embedded H2 database of the tests, benchmarks and load tests;
+-- the same tables as db/migration/mysql, with native sequences for the pooled id generators
+
+create sequence ft_users_seq start with 1 increment by 50;
+create sequence vendors_seq start with 1 increment by 50;
+create sequence brands_seq start with 1 increment by 50;
+create sequence food_trucks_seq start with 1 increment by 50;
+create sequence menu_items_seq start with 1 increment by 50;
+create sequence applications_seq start with 1 increment by 50;
+create sequence documents_seq start with 1 increment by 50;
+create sequence reviews_seq start with 1 increment by 50;
+create sequence inspections_seq start with 1 increment by 50;
+
+create table ft_users (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role varchar(32),
+    primary key (id)
+);
+
+-- Compared ignoring case, as MySQL's utf8mb4_0900_ai_ci collation does
+create table vendors (
+    id bigint not null,
+    name varchar(255),
+    email varchar_ignorecase(255),
+    password varchar(255),
+    primary key (id)
+);
+
+create table brands (
+    id bigint not null,
+    vendor_id bigint not null,
+    brand_name varchar(255) not null,
+    version bigint,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_brands_brand_name unique (brand_name),
+    constraint fk_brands_vendor foreign key (vendor_id) references vendors (id)
+);
+
+create table food_trucks (
+    id bigint not null,
+    brand_id bigint not null,
+    brand_name varchar(255),
+    operating_region varchar(255) not null,
+    location varchar(255),
+    cuisine_specialties varchar(255),
+    menu_highlights varchar(255),
+    application_status varchar(32),
+    version bigint,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_food_trucks_brand foreign key (brand_id) references brands (id)
+);
+
+create table menu_items (
+    id bigint not null,
+    name varchar(255),
+    price float(53),
+    description varchar(255),
+    imageurl varchar(255),
+    truck_id bigint not null,
+    version bigint,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_menu_items_truck foreign key (truck_id) references food_trucks (id)
+);
+
+create table applications (
+    id bigint not null,
+    food_truck_id bigint,
+    vendor_id bigint,
+    submission_date timestamp(6),
+    status varchar(32),
+    primary key (id),
+    constraint fk_applications_food_truck foreign key (food_truck_id) references food_trucks (id),
+    constraint fk_applications_vendor foreign key (vendor_id) references vendors (id)
+);
+
+create table documents (
+    id bigint not null,
+    application_id bigint,
+    document_name varchar(255),
+    file_path varchar(255),
+    primary key (id),
+    constraint fk_documents_application foreign key (application_id) references applications (id)
+);
+
+create table reviews (
+    id bigint not null,
+    application_id bigint,
+    reviewer_id bigint,
+    review_date timestamp(6),
+    review_status varchar(32),
+    primary key (id),
+    constraint uk_reviews_application unique (application_id),
+    constraint fk_reviews_application foreign key (application_id) references applications (id),
+    constraint fk_reviews_reviewer foreign key (reviewer_id) references ft_users (id)
+);
+
+create table inspections (
+    id bigint not null,
+    food_truck_id bigint,
+    inspector_id bigint,
+    inspection_date timestamp(6),
+    result varchar(32),
+    primary key (id),
+    constraint uk_inspections_food_truck unique (food_truck_id),
+    constraint fk_inspections_food_truck foreign key (food_truck_id) references food_trucks (id),
+    constraint fk_inspections_inspector foreign key (inspector_id) references ft_users (id)
+);
+
+create table food_truck_vendor (
+    id integer generated by default as identity,
+    name varchar(255),
+    cuisine_specialties varchar(255),
+    operating_region varchar(255),
+    menu_highlights varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+);
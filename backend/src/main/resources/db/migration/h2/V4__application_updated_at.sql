@@ -0,0 +1,8 @@
+-- A status change writes only the applications row. The catalogue ETags of a truck and of its brand
+-- follow their applications through max(updated_at), read off the indexes below, instead of the change
+-- also writing the truck and brand rows. Existing rows start at the migration time, so every ETag
+-- issued before it changes once.
+alter table applications add column updated_at timestamp(6);
+update applications set updated_at = current_timestamp(6);
+create index ix_applications_truck_updated on applications (food_truck_id, updated_at);
+create index ix_applications_updated on applications (updated_at);
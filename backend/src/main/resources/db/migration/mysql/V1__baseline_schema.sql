@@ -0,0 +1,132 @@
+-- Baseline schema, as Hibernate generated it from the entities under ddl-auto=create.
+-- MySQL has no sequences: each pooled id generator is a one-row table that Hibernate advances by 50.
+
+create table ft_users_seq (next_val bigint) engine=InnoDB;
+insert into ft_users_seq values (1);
+create table vendors_seq (next_val bigint) engine=InnoDB;
+insert into vendors_seq values (1);
+create table brands_seq (next_val bigint) engine=InnoDB;
+insert into brands_seq values (1);
+create table food_trucks_seq (next_val bigint) engine=InnoDB;
+insert into food_trucks_seq values (1);
+create table menu_items_seq (next_val bigint) engine=InnoDB;
+insert into menu_items_seq values (1);
+create table applications_seq (next_val bigint) engine=InnoDB;
+insert into applications_seq values (1);
+create table documents_seq (next_val bigint) engine=InnoDB;
+insert into documents_seq values (1);
+create table reviews_seq (next_val bigint) engine=InnoDB;
+insert into reviews_seq values (1);
+create table inspections_seq (next_val bigint) engine=InnoDB;
+insert into inspections_seq values (1);
+
+create table ft_users (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    role varchar(32),
+    primary key (id)
+) engine=InnoDB;
+
+-- Vendor emails are matched ignoring case, which this collation does with a plain, indexable equality
+create table vendors (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255) character set utf8mb4 collate utf8mb4_0900_ai_ci,
+    password varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table brands (
+    id bigint not null,
+    vendor_id bigint not null,
+    brand_name varchar(255) not null,
+    version bigint,
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_brands_brand_name unique (brand_name),
+    constraint fk_brands_vendor foreign key (vendor_id) references vendors (id)
+) engine=InnoDB;
+
+create table food_trucks (
+    id bigint not null,
+    brand_id bigint not null,
+    brand_name varchar(255),
+    operating_region varchar(255) not null,
+    location varchar(255),
+    cuisine_specialties varchar(255),
+    menu_highlights varchar(255),
+    application_status varchar(32),
+    version bigint,
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_food_trucks_brand foreign key (brand_id) references brands (id)
+) engine=InnoDB;
+
+create table menu_items (
+    id bigint not null,
+    name varchar(255),
+    price float(53),
+    description varchar(255),
+    imageurl varchar(255),
+    truck_id bigint not null,
+    version bigint,
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_menu_items_truck foreign key (truck_id) references food_trucks (id)
+) engine=InnoDB;
+
+create table applications (
+    id bigint not null,
+    food_truck_id bigint,
+    vendor_id bigint,
+    submission_date datetime(6),
+    status varchar(32),
+    primary key (id),
+    constraint fk_applications_food_truck foreign key (food_truck_id) references food_trucks (id),
+    constraint fk_applications_vendor foreign key (vendor_id) references vendors (id)
+) engine=InnoDB;
+
+create table documents (
+    id bigint not null,
+    application_id bigint,
+    document_name varchar(255),
+    file_path varchar(255),
+    primary key (id),
+    constraint fk_documents_application foreign key (application_id) references applications (id)
+) engine=InnoDB;
+
+create table reviews (
+    id bigint not null,
+    application_id bigint,
+    reviewer_id bigint,
+    review_date datetime(6),
+    review_status varchar(32),
+    primary key (id),
+    constraint uk_reviews_application unique (application_id),
+    constraint fk_reviews_application foreign key (application_id) references applications (id),
+    constraint fk_reviews_reviewer foreign key (reviewer_id) references ft_users (id)
+) engine=InnoDB;
+
+create table inspections (
+    id bigint not null,
+    food_truck_id bigint,
+    inspector_id bigint,
+    inspection_date datetime(6),
+    result varchar(32),
+    primary key (id),
+    constraint uk_inspections_food_truck unique (food_truck_id),
+    constraint fk_inspections_food_truck foreign key (food_truck_id) references food_trucks (id),
+    constraint fk_inspections_inspector foreign key (inspector_id) references ft_users (id)
+) engine=InnoDB;
+
+create table food_truck_vendor (
+    id integer not null auto_increment,
+    name varchar(255),
+    cuisine_specialties varchar(255),
+    operating_region varchar(255),
+    menu_highlights varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+) engine=InnoDB;
@@ -0,0 +1,5 @@
+-- Vendor emails are matched with a plain equality on this column, so its collation decides what counts as
+-- the same address (VendorRepository.findByEmailUsingColumnCollation). utf8mb4_0900_ai_ci also ignored
+-- accents, letting josé@example.com log in as jose@example.com; _as_ci ignores case only, as H2's
+-- varchar_ignorecase does. ix_vendors_email is rebuilt with the column.
+alter table vendors modify email varchar(255) character set utf8mb4 collate utf8mb4_0900_as_ci;
@@ -0,0 +1,73 @@
+package com.examly.springapp;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Boots the application as a deployment does, each test on its own embedded database: the migrations
+// build the schema on the first boot, Hibernate validates the mappings against it, and a restart on a
+// populated database migrates and seeds nothing
+class SchemaStartupTests {
+
+    @Test
+    void testFirstBootMigratesAnEmptyDatabase() {
+        String url = newDatabaseUrl();
+        try (ConfigurableApplicationContext context = start(url, "test")) {
+            assertEquals(List.of("1", "2", "3", "4"), appliedVersions(context));
+            assertTrue(count(context, "ft_users") > 0, "DataSeeder did not run");
+        }
+    }
+
+    @Test
+    void testRestartOnAPopulatedDatabaseKeepsSchemaAndData() {
+        String url = newDatabaseUrl();
+        long users;
+        long trucks;
+        try (ConfigurableApplicationContext context = start(url, "test", "synthetic")) {
+            users = count(context, "ft_users");
+            trucks = count(context, "food_trucks");
+            assertTrue(trucks > 0, "SyntheticDataGenerator did not run");
+        }
+
+        // DataSeeder is active this time and must leave the existing data alone
+        try (ConfigurableApplicationContext context = start(url, "test")) {
+            assertEquals(0, context.getBean(Flyway.class).info().pending().length);
+            assertEquals(List.of("1", "2", "3", "4"), appliedVersions(context));
+            assertEquals(users, count(context, "ft_users"));
+            assertEquals(trucks, count(context, "food_trucks"));
+        }
+    }
+
+    private static String newDatabaseUrl() {
+        return "jdbc:h2:mem:startup-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    private static ConfigurableApplicationContext start(String url, String... profiles) {
+        return new SpringApplicationBuilder(SpringappApplication.class)
+                .profiles(profiles)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.main.web-application-type=none",
+                        "--synthetic.vendors=20");
+    }
+
+    private static List<String> appliedVersions(ConfigurableApplicationContext context) {
+        return Arrays.stream(context.getBean(Flyway.class).info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+    }
+
+    private static long count(ConfigurableApplicationContext context, String table) {
+        return context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,212 @@
+package com.examly.springapp.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.repository.VendorRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two embedded H2 databases stand in for the primary and its replica. Nothing replicates between
+// them, so the replica keeps the schema but never gets the seeded rows, and what a transaction
+// can see shows where it ran.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTests.PRIMARY_URL,
+        "replica.datasource.url=" + ReadReplicaRoutingTests.REPLICA_URL
+})
+class ReadReplicaRoutingTests {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testReadOnlyTransactionsUseTheReplica() {
+        assertTrue(inTransaction(true, this::connectionUrl).startsWith("jdbc:h2:mem:replica"));
+        assertTrue(inTransaction(false, this::connectionUrl).startsWith("jdbc:h2:mem:primary"));
+    }
+
+    @Test
+    void testSeededRowsAreOnlyVisibleToReadWriteTransactions() {
+        assertTrue(inTransaction(false, vendorRepository::count) > 0);
+        assertEquals(0L, (long) inTransaction(true, vendorRepository::count));
+    }
+
+    @Test
+    void testListingsAreServedFromTheReplica() throws Exception {
+        mockMvc.perform(get("/api/applications/paginated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void testStatusUpdateIsWrittenToThePrimary() throws Exception {
+        Long applicationId = inTransaction(false, () -> applicationRepository.findAll().get(0).getId());
+
+        mockMvc.perform(put("/api/applications/" + applicationId + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_REVIEW\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(Application.ApplicationStatus.IN_REVIEW, inTransaction(false,
+                () -> applicationRepository.findById(applicationId).orElseThrow().getStatus()));
+    }
+
+    @Test
+    void testRequestThatReadsFirstWritesToThePrimary() throws Exception {
+        // The import looks the truck up read-only before it writes, so the replica needs the truck too
+        Long foodTruckId = query(PRIMARY_URL, "SELECT MIN(id) FROM food_trucks");
+        copyRows("brands", "food_trucks");
+        entityManagerFactory.getCache().evictAll();
+        String countMenuItems = "SELECT COUNT(*) FROM menu_items WHERE truck_id = " + foodTruckId;
+        long before = query(PRIMARY_URL, countMenuItems);
+
+        mockMvc.perform(post("/api/menuitems/import/" + foodTruckId)
+                        .contentType("application/x-ndjson")
+                        .content("{\"name\": \"Routed\", \"price\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1));
+
+        assertEquals(before + 1, query(PRIMARY_URL, countMenuItems));
+        assertEquals(0L, query(REPLICA_URL, countMenuItems));
+    }
+
+    @Test
+    void testEachPoolHasItsOwnMetrics() {
+        inTransaction(true, vendorRepository::count);
+        inTransaction(false, vendorRepository::count);
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge());
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> work.get());
+    }
+
+    private String connectionUrl() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getURL());
+    }
+
+    private static long query(String url, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    // Replicates the rows of the given tables, leaving out the rows they reference
+    private static void copyRows(String... tables) throws SQLException {
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement script = primary.createStatement();
+             Statement insert = replica.createStatement();
+             ResultSet statements = script.executeQuery("SCRIPT TABLE " + String.join(", ", tables))) {
+            insert.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            while (statements.next()) {
+                String sql = statements.getString(1);
+                if (sql.startsWith("INSERT")) {
+                    insert.execute(sql);
+                }
+            }
+            insert.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        // Gives the replica the schema the migrations have just created on the primary, before anything reads from it
+        @Bean
+        static BeanPostProcessor replicaSchemaCopier(Environment environment) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof EntityManagerFactory) {
+                        copySchema(environment.getRequiredProperty("spring.datasource.url"),
+                                environment.getRequiredProperty("spring.datasource.username"),
+                                environment.getProperty("spring.datasource.password", ""));
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static void copySchema(String primaryUrl, String username, String password) {
+            try (Connection primary = DriverManager.getConnection(primaryUrl, username, password);
+                 Connection replica = DriverManager.getConnection(REPLICA_URL, username, password);
+                 Statement script = primary.createStatement();
+                 Statement ddl = replica.createStatement();
+                 ResultSet statements = script.executeQuery("SCRIPT NODATA")) {
+                while (statements.next()) {
+                    String sql = statements.getString(1);
+                    if (!sql.startsWith("--")) {
+                        ddl.execute(sql);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot copy the schema to the replica", e);
+            }
+        }
+    }
+}
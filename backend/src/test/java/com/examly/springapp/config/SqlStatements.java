@@ -0,0 +1,22 @@
+package com.examly.springapp.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MockMvc matchers on the number of SQL statements a request issued, as counted by SqlStatementMetricsFilter:
+// mockMvc.perform(get("/api/...")).andExpect(SqlStatements.atMost(2));
+public final class SqlStatements {
+
+    private SqlStatements() {}
+
+    public static ResultMatcher atMost(long max) {
+        return result -> {
+            Object statements = result.getRequest().getAttribute(SqlStatementMetricsFilter.STATEMENT_COUNT_ATTRIBUTE);
+            assertNotNull(statements, "No statement count recorded, is the request under /api/?");
+            assertTrue((Long) statements <= max, result.getRequest().getRequestURI() + " issued "
+                    + statements + " SQL statements, expected at most " + max);
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.examly.springapp.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The virtual-thread bulkhead on its own, with a single permit: a plain request frees it when it returns,
+// a request that went async (a streamed export) only once the async request completes
+class VirtualThreadBulkheadTests {
+
+    private final Filter bulkhead = new ThreadingConfig.VirtualThreadBulkhead()
+            .concurrencyLimitFilter(1, 10).getFilter();
+
+    @Test
+    void testPlainRequestReleasesItsPermitOnReturn() throws Exception {
+        assertEquals(HttpStatus.OK.value(), run(new MockHttpServletRequest("GET", "/api/foodtrucks")).getStatus());
+        assertEquals(HttpStatus.OK.value(), run(new MockHttpServletRequest("GET", "/api/foodtrucks")).getStatus());
+    }
+
+    @Test
+    void testAsyncRequestHoldsItsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/applications/export");
+        export.setAsyncSupported(true);
+        MockHttpServletResponse exportResponse = new MockHttpServletResponse();
+        bulkhead.doFilter(export, exportResponse, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                request.startAsync();
+            }
+        });
+
+        // Still streaming: the next request times out waiting for the permit
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                run(new MockHttpServletRequest("GET", "/api/foodtrucks")).getStatus());
+
+        MockAsyncContext asyncContext = (MockAsyncContext) export.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+        assertEquals(HttpStatus.OK.value(), run(new MockHttpServletRequest("GET", "/api/foodtrucks")).getStatus());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bulkhead.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
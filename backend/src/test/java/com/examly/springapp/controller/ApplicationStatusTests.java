@@ -0,0 +1,144 @@
+package com.examly.springapp.controller;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.examly.springapp.config.SqlStatements;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.repository.ApplicationRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The applications row holds the only copy of an application's status and a status change writes only
+// that row; the truck and its brand show the status and their ETags follow it without their rows being
+// written. Bulk transitions are set-based.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationStatusTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testStatusChangeMovesTheTruckAndBrandETagsOnly() throws Exception {
+        Application application = applicationRepository.findAll().stream()
+                .filter(a -> a.getFoodTruck() != null && a.getStatus() != Application.ApplicationStatus.REJECTED)
+                .findFirst()
+                .orElseThrow();
+        Long truckId = application.getFoodTruck().getId();
+        Long brandId = application.getFoodTruck().getBrandId();
+        String truckETag = eTag("/api/foodtrucks/" + truckId);
+        String brandETag = eTag("/api/brands/" + brandId);
+        Long truckVersion = version("food_trucks", truckId);
+        Long brandVersion = version("brands", brandId);
+
+        mockMvc.perform(put("/api/applications/" + application.getId() + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"REJECTED\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(truckVersion, version("food_trucks", truckId));
+        assertEquals(brandVersion, version("brands", brandId));
+        String newTruckETag = mockMvc.perform(get("/api/foodtrucks/" + truckId).header(HttpHeaders.IF_NONE_MATCH, truckETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationStatus").value("REJECTED"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(truckETag, newTruckETag);
+        mockMvc.perform(get("/api/brands/" + brandId).header(HttpHeaders.IF_NONE_MATCH, brandETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testTruckAndBrandJsonLeaveOutTheApplications() throws Exception {
+        // Reviews and documents are not covered by the ETag, so the application tree must stay out of the body
+        Application application = applicationRepository.findAll().stream()
+                .filter(a -> a.getFoodTruck() != null)
+                .findFirst()
+                .orElseThrow();
+        Long truckId = application.getFoodTruck().getId();
+        mockMvc.perform(get("/api/foodtrucks/" + truckId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationStatus").exists())
+                .andExpect(jsonPath("$.applications").doesNotExist());
+        mockMvc.perform(get("/api/brands/" + application.getFoodTruck().getBrandId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foodTrucks[0].applicationStatus").exists())
+                .andExpect(jsonPath("$.foodTrucks[*].applications").isEmpty());
+    }
+
+    @Test
+    void testBulkTransitionReportsEveryId() throws Exception {
+        List<Long> submitted = applicationRepository.findIdsByStatus(Application.ApplicationStatus.SUBMITTED, PageRequest.of(0, 2));
+        Long moved = submitted.get(0);
+        Long changedMeanwhile = submitted.get(1);
+        Long missing = Long.MAX_VALUE;
+        Long movedTruckId = applicationRepository.findById(moved).orElseThrow().getFoodTruck().getId();
+        mockMvc.perform(put("/api/applications/" + changedMeanwhile + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"APPROVED\"}"))
+                .andExpect(status().isOk());
+        Long movedTruckVersion = version("food_trucks", movedTruckId);
+        String movedTruckETag = eTag("/api/foodtrucks/" + movedTruckId);
+
+        // One locking select and one UPDATE for the whole chunk
+        mockMvc.perform(put("/api/applications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [" + moved + ", " + changedMeanwhile + ", " + missing + "], "
+                                + "\"from\": \"SUBMITTED\", \"to\": \"IN_REVIEW\"}"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.outcomes['" + moved + "']").value("UPDATED"))
+                .andExpect(jsonPath("$.outcomes['" + changedMeanwhile + "']").value("STATUS_MISMATCH"))
+                .andExpect(jsonPath("$.outcomes['" + missing + "']").value("NOT_FOUND"));
+
+        assertEquals(Application.ApplicationStatus.IN_REVIEW, applicationRepository.findById(moved).orElseThrow().getStatus());
+        assertEquals(movedTruckVersion, version("food_trucks", movedTruckId));
+        mockMvc.perform(get("/api/foodtrucks/" + movedTruckId).header(HttpHeaders.IF_NONE_MATCH, movedTruckETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicationStatus").value("IN_REVIEW"));
+        assertEquals(Application.ApplicationStatus.APPROVED,
+                applicationRepository.findById(changedMeanwhile).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testBulkTransitionNeedsTwoStatuses() throws Exception {
+        mockMvc.perform(put("/api/applications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\": \"SUBMITTED\", \"to\": \"SUBMITTED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String eTag(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long version(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+}
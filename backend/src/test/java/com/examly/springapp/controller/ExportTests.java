@@ -0,0 +1,108 @@
+package com.examly.springapp.controller;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The streaming exports write one line per row in either format, and only the rows the given filters select
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testApplicationExportWritesEveryRowAsNdjson() throws Exception {
+        long applications = count("SELECT COUNT(*) FROM applications");
+        assertTrue(applications > 0, "Expected seeded applications");
+
+        String body = export("/api/applications/export", MediaType.APPLICATION_NDJSON_VALUE);
+
+        String[] lines = body.split("\n");
+        assertEquals(applications, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":"), lines[0]);
+    }
+
+    @Test
+    void testApplicationExportAppliesStatusAndWindow() throws Exception {
+        LocalDateTime from = jdbcTemplate.queryForObject("SELECT MIN(submission_date) FROM applications",
+                LocalDateTime.class);
+        LocalDateTime to = from.plusYears(100);
+        long matching = count("SELECT COUNT(*) FROM applications WHERE status = 'SUBMITTED'"
+                + " AND submission_date >= ? AND submission_date < ?", from, to);
+
+        String body = export("/api/applications/export?format=csv&status=submitted&from=" + from + "&to=" + to,
+                "text/csv");
+
+        String[] lines = body.split("\r\n");
+        assertEquals("id,submissionDate,status,foodTruckId,foodTruckLocation,operatingRegion,cuisineSpecialties,"
+                + "brandName,vendorName,vendorEmail,reviewId,reviewerName", lines[0]);
+        assertEquals(matching + 1, lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].contains(",SUBMITTED,"), lines[i]);
+        }
+    }
+
+    @Test
+    void testReviewAndInspectionExportsApplyTheirFilters() throws Exception {
+        long inProgress = count("SELECT COUNT(*) FROM reviews WHERE review_status = 'IN_PROGRESS'");
+        String reviews = export("/api/reviews/export?format=csv&status=IN_PROGRESS", "text/csv");
+        assertEquals(inProgress + 1, reviews.split("\r\n").length);
+
+        // An empty window leaves only the header
+        String inspections = export("/api/inspections/export?format=csv&from=2000-01-01T00:00:00&to=2000-01-01T00:00:00",
+                "text/csv");
+        assertEquals(1, inspections.split("\r\n").length);
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/applications/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(startsWith("Unsupported export format")));
+    }
+
+    // Runs the streamed response to completion and returns what it wrote
+    private String export(String url, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,200 @@
+package com.examly.springapp.controller;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.examly.springapp.service.MenuItemImportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The streaming menu import with chunks of three rows, on a database of its own since it adds menu items:
+// malformed lines are reported by line number and skipped, and a chunk the database rejects rolls back
+// alone while the chunks around it are kept
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:menuimport;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "menu.import.chunk-size=3"
+})
+class MenuItemImportTests {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuItemImportService menuItemImportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long foodTruckId;
+    private long menuItemsBefore;
+
+    @BeforeEach
+    void pickFoodTruck() {
+        foodTruckId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM food_trucks", Long.class);
+        menuItemsBefore = menuItems();
+    }
+
+    @Test
+    void testMalformedNdjsonLinesAreReportedAndSkipped() throws Exception {
+        String body = String.join("\n",
+                "{\"name\":\"Taco\",\"price\":3.5}",
+                "{\"name\":\"Burrito\",",
+                "[1,2]",
+                "",
+                "{\"name\":\"Nachos\",\"price\":\"cheap\"}",
+                "{\"name\":\" \",\"price\":2}",
+                "{\"name\":\"Churro\",\"price\":-1}",
+                "{\"name\":\"Quesadilla\",\"price\":4}");
+
+        importBody(NDJSON, body)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.failedRows").value(5))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value(startsWith("Malformed JSON")))
+                .andExpect(jsonPath("$.errors[1].line").value(3))
+                .andExpect(jsonPath("$.errors[1].message").value("Expected a JSON object"))
+                .andExpect(jsonPath("$.errors[2].line").value(5))
+                .andExpect(jsonPath("$.errors[2].message").value("Price must be a number"))
+                .andExpect(jsonPath("$.errors[3].line").value(6))
+                .andExpect(jsonPath("$.errors[3].message").value("Name is required"))
+                .andExpect(jsonPath("$.errors[4].line").value(7))
+                .andExpect(jsonPath("$.errors[4].message").value("Price must not be negative"));
+
+        assertEquals(menuItemsBefore + 2, menuItems());
+    }
+
+    @Test
+    void testMalformedCsvLinesAreReportedAndSkipped() throws Exception {
+        String body = String.join("\r\n",
+                "\uFEFFName,Price,Description",
+                "Samosa,1.5,\"Potato, peas\"",
+                "\"Pakora,2,Unterminated",
+                "Lassi,two,Mango",
+                ",1,No name",
+                "\"Chai \"\"masala\"\"\",1");
+
+        importBody("text/csv", body)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.failedRows").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Unterminated quoted field"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[1].message").value("Price must be a number: two"))
+                .andExpect(jsonPath("$.errors[2].line").value(5))
+                .andExpect(jsonPath("$.errors[2].message").value("Name is required"));
+
+        assertEquals(menuItemsBefore + 2, menuItems());
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM menu_items WHERE truck_id = ?"
+                + " AND name = 'Chai \"masala\"' AND description IS NULL", Long.class, foodTruckId));
+    }
+
+    @Test
+    void testCsvWithoutUsableHeaderIsRejected() throws Exception {
+        importBody("text/csv", "\n\n")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("CSV body is empty, expected a header line"));
+        importBody("text/csv", "name,description\nSamosa,Fried")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("CSV header must contain name and price columns"));
+
+        assertEquals(menuItemsBefore, menuItems());
+    }
+
+    @Test
+    void testRowsFillingWholeChunksAreAllSaved() throws Exception {
+        importBody(NDJSON, items("Whole chunk item", 1, 6, -1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(6))
+                .andExpect(jsonPath("$.failedRows").value(0));
+
+        assertEquals(menuItemsBefore + 6, menuItems());
+    }
+
+    @Test
+    void testChunkRejectedByTheDatabaseRollsBackAlone() throws Exception {
+        // Rows 4-6 form the second chunk; row 5's description is too long for its column
+        importBody(NDJSON, items("Rejected chunk item", 1, 8, 5))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(5))
+                .andExpect(jsonPath("$.failedRows").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[2].line").value(6))
+                .andExpect(jsonPath("$.errors[2].message").value(startsWith("Rolled back with its chunk")));
+
+        assertEquals(menuItemsBefore + 5, menuItems());
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM menu_items WHERE truck_id = ?"
+                + " AND name IN ('Rejected chunk item 4', 'Rejected chunk item 5', 'Rejected chunk item 6')",
+                Long.class, foodTruckId));
+    }
+
+    @Test
+    void testChunksDoNotStayInTheRequestPersistenceContext() throws Exception {
+        // Bound the way open-in-view binds it, so the chunk transactions share it
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            menuItemImportService.importMenuItems(foodTruckId, new ByteArrayInputStream(
+                    items("Cleared chunk item", 1, 7, -1).getBytes(StandardCharsets.UTF_8)),
+                    MenuItemImportService.Format.NDJSON);
+
+            assertEquals(0, requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+        assertEquals(menuItemsBefore + 7, menuItems());
+    }
+
+    private ResultActions importBody(String contentType, String body) throws Exception {
+        return mockMvc.perform(post("/api/menuitems/import/" + foodTruckId)
+                .contentType(contentType)
+                .content(body));
+    }
+
+    // NDJSON items first..last, the one at tooLong with a description longer than the column allows
+    private static String items(String name, int first, int last, int tooLong) {
+        return IntStream.rangeClosed(first, last)
+                .mapToObj(i -> "{\"name\":\"" + name + " " + i + "\",\"price\":" + i
+                        + (i == tooLong ? ",\"description\":\"" + "x".repeat(300) + "\"" : "") + "}")
+                .collect(Collectors.joining("\n"));
+    }
+
+    private long menuItems() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM menu_items WHERE truck_id = ?", Long.class,
+                foodTruckId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.examly.springapp.controller;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.ApplicationRepository;
+import com.examly.springapp.repository.ReviewRepository;
+import com.examly.springapp.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs the reviewer assignment engine over the seeded applications, on a database of its own since it
+// assigns all of them; small batches make it take several. An application already decided without a
+// review is left alone.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:assignment;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "reviewer.assignment.batch-size=2"
+})
+class ReviewerAssignmentTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testEverySubmittedApplicationGoesToTheLeastLoadedReviewer() throws Exception {
+        Application decided = applicationRepository.findByReviewIsNull(Pageable.unpaged()).getContent().get(0);
+        decided.setStatus(Application.ApplicationStatus.APPROVED);
+        applicationRepository.save(decided);
+        long unassigned = applicationRepository.findByReviewIsNull(Pageable.unpaged()).getTotalElements() - 1;
+        assertTrue(unassigned > 2, "Expected more seeded applications than one batch");
+        Map<Long, Long> before = openReviews();
+
+        mockMvc.perform(post("/api/applications/assign-reviewers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned").value(unassigned))
+                .andExpect(jsonPath("$.conflictingBatches").value(0));
+
+        assertEquals(List.of(decided.getId()), applicationRepository.findByReviewIsNull(Pageable.unpaged()).getContent()
+                .stream().map(Application::getId).toList());
+        assertEquals(Application.ApplicationStatus.APPROVED,
+                applicationRepository.findById(decided.getId()).orElseThrow().getStatus());
+        // Greedy assignment to the least loaded reviewer leaves the loads at most one apart, or as far
+        // apart as they started
+        Map<Long, Long> after = openReviews();
+        long spreadBefore = spread(before.values());
+        assertTrue(spread(after.values()) <= Math.max(1, spreadBefore), "Open reviews per reviewer: " + after);
+
+        // A second run finds nothing left
+        mockMvc.perform(post("/api/applications/assign-reviewers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned").value(0));
+    }
+
+    private Map<Long, Long> openReviews() {
+        Map<Long, Long> open = new HashMap<>();
+        for (User reviewer : userRepository.findByRole(User.Role.REVIEWER)) {
+            open.put(reviewer.getId(), reviewRepository.countByReviewerIdAndReviewStatus(reviewer.getId(),
+                    Review.ReviewStatus.IN_PROGRESS));
+        }
+        return open;
+    }
+
+    private static long spread(Collection<Long> loads) {
+        return loads.stream().mapToLong(Long::longValue).max().orElse(0)
+                - loads.stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.examly.springapp.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.examly.springapp.config.SqlStatements;
+import com.examly.springapp.repository.ApplicationRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Upper bounds on the SQL statements per endpoint, against the DataSeeder data set, so a change
+// that makes an endpoint query once per row fails here
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void testApplicationsWithDetailsUseOneProjectionQuery() throws Exception {
+        // The joined projection, plus the count query when there is more than one page
+        mockMvc.perform(get("/api/applications/with-details/paginated").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+    }
+
+    @Test
+    void testDashboardStatsUseGroupedCounts() throws Exception {
+        // Four grouped counts plus the food truck and vendor totals
+        mockMvc.perform(get("/api/superadmin/dashboard/stats"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(6));
+    }
+
+    @Test
+    void testApplicationListLoadsCollectionsInBatches() throws Exception {
+        // The listing with truck, vendor and review joined, then one batch each for the documents
+        // and the menus; loading them per row would cost two statements per application
+        mockMvc.perform(get("/api/applications"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
+    }
+
+    @Test
+    void testApplicationPageLoadsCollectionsInBatches() throws Exception {
+        // As the list, plus the count query
+        mockMvc.perform(get("/api/applications/paginated").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4));
+    }
+
+    @Test
+    void testApplicationDetailFollowsItsFetchPlan() throws Exception {
+        Long id = applicationRepository.findAll().get(0).getId();
+        // The application with its documents joined, then the truck's menu
+        mockMvc.perform(get("/api/applications/" + id))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+    }
+
+    @Test
+    void testFoodTruckListLoadsMenusInBatches() throws Exception {
+        // The version lookup, the trucks and one batch of menus; none when cached
+        mockMvc.perform(get("/api/foodtrucks"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
+    }
+
+    @Test
+    void testSummaryViewsUseOneProjectionQuery() throws Exception {
+        for (String list : new String[] {"/api/applications", "/api/reviews", "/api/inspections", "/api/users"}) {
+            mockMvc.perform(get(list).param("view", "summary"))
+                    .andExpect(status().isOk())
+                    .andExpect(SqlStatements.atMost(1));
+        }
+        // Plus the version lookup
+        mockMvc.perform(get("/api/foodtrucks").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+    }
+
+    @Test
+    void testUserSummaryLeavesOutThePassword() throws Exception {
+        mockMvc.perform(get("/api/users").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").exists())
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+    }
+
+    @Test
+    void testUnknownViewIsRejected() throws Exception {
+        mockMvc.perform(get("/api/applications").param("view", "compact"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testDashboardSnapshotDoesNotQuery() throws Exception {
+        mockMvc.perform(get("/api/superadmin/dashboard/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0));
+    }
+}
@@ -0,0 +1,147 @@
+package com.examly.springapp.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.examly.springapp.dto.CursorPage;
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Vendor;
+import com.examly.springapp.service.KeysetPaginator;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Walks applications of one vendor by submission date, several of them sharing a date or having none,
+// a slice of two at a time: every row comes back once, in (date, id) order, and a cursor that was
+// tampered with or belongs to another sort is rejected, as is a sort key the cursor cannot carry
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(KeysetPaginator.class)
+class KeysetPaginatorTests {
+
+    private static final String SORT_BY = "submissionDate";
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Vendor vendor;
+    private List<Application> applications;
+
+    @BeforeEach
+    void persistApplications() {
+        vendor = new Vendor();
+        vendor.setName("Keyset Vendor");
+        vendor.setEmail("keyset@vendor.com");
+        vendor.setPassword("password");
+        entityManager.persist(vendor);
+
+        applications = new ArrayList<>();
+        for (LocalDateTime submitted : new LocalDateTime[] {DAY, DAY, DAY, DAY.plusDays(1), DAY.plusDays(1), null, null}) {
+            Application application = new Application();
+            application.setVendor(vendor);
+            application.setSubmissionDate(submitted);
+            application.setStatus(Application.ApplicationStatus.SUBMITTED);
+            entityManager.persist(application);
+            applications.add(application);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void testAscendingWalkReturnsEveryRowOnceWithNullsFirst() {
+        Comparator<Application> order = Comparator.comparing(Application::getSubmissionDate,
+                Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).thenComparing(Application::getId);
+
+        assertEquals(ids(applications.stream().sorted(order).toList()), walk(Sort.Direction.ASC));
+    }
+
+    @Test
+    void testDescendingWalkReturnsEveryRowOnceWithNullsLast() {
+        Comparator<Application> order = Comparator.comparing(Application::getSubmissionDate,
+                Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).thenComparing(Application::getId);
+
+        assertEquals(ids(applications.stream().sorted(order.reversed()).toList()), walk(Sort.Direction.DESC));
+    }
+
+    @Test
+    void testTamperedCursorIsRejected() {
+        String next = page(null, Sort.Direction.ASC).getNextCursor();
+
+        assertRejected("Malformed cursor", "not*base64", Sort.Direction.ASC);
+        assertRejected("Malformed cursor", encode(SORT_BY + "|ASC|x|=" + DAY), Sort.Direction.ASC);
+        assertRejected("Malformed cursor", encode(SORT_BY + "|ASC|1|=yesterday"), Sort.Direction.ASC);
+        assertRejected("Malformed cursor", encode(SORT_BY + "|ASC|1|" + DAY), Sort.Direction.ASC);
+        assertRejected("Cursor does not match the requested sort", encode("id|ASC|1|=1"), Sort.Direction.ASC);
+        assertRejected("Cursor does not match the requested sort", next, Sort.Direction.DESC);
+    }
+
+    @Test
+    void testUnsortableFieldIsRejectedOnTheFirstSlice() {
+        // Unknown, an association, and a field that is not persisted
+        for (String sortBy : List.of("nope", "foodTruck", "persistedStatus")) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> keysetPaginator.page(Application.class, Application.LIST_GRAPH, null, 2, sortBy,
+                            Sort.Direction.ASC, (root, cb) -> List.of()));
+            assertEquals("Cannot paginate by " + sortBy, e.getMessage());
+        }
+    }
+
+    // Follows nextCursor to the end and returns the ids in the order they came
+    private List<Long> walk(Sort.Direction direction) {
+        List<Long> seen = new ArrayList<>();
+        String after = null;
+        CursorPage<Application> slice;
+        do {
+            slice = page(after, direction);
+            assertTrue(slice.getNumberOfElements() <= 2);
+            seen.addAll(ids(slice.getContent()));
+            after = slice.getNextCursor();
+            assertEquals(slice.isHasNext(), after != null);
+        } while (slice.isHasNext());
+
+        assertNull(slice.getNextCursor());
+        assertEquals(seen.size(), new HashSet<>(seen).size(), "Duplicate rows across slices: " + seen);
+        return seen;
+    }
+
+    private CursorPage<Application> page(String after, Sort.Direction direction) {
+        return keysetPaginator.page(Application.class, Application.LIST_GRAPH, after, 2, SORT_BY, direction,
+                (root, cb) -> List.of(cb.equal(root.get("vendor"), vendor)));
+    }
+
+    private void assertRejected(String message, String cursor, Sort.Direction direction) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> page(cursor, direction));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static List<Long> ids(List<Application> rows) {
+        return rows.stream().map(Application::getId).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
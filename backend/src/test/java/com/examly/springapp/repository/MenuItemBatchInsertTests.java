@@ -0,0 +1,82 @@
+package com.examly.springapp.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.examly.springapp.model.Brand;
+import com.examly.springapp.model.FoodTruck;
+import com.examly.springapp.model.MenuItem;
+import com.examly.springapp.model.Vendor;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MenuItemBatchInsertTests {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testBulkInsertIsBatched() {
+        FoodTruck foodTruck = persistFoodTruck();
+
+        List<MenuItem> menuItems = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            menuItems.add(new MenuItem(null, "Item " + i, 10.0 + i, "Bulk item", null, foodTruck));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        menuItemRepository.saveAll(menuItems);
+        entityManager.flush();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // One statement per row means batching is off; with batch_size=50 and pooled ids we expect
+        // about ROWS / 50 insert batches plus ROWS / 50 sequence calls
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements < ROWS / 10,
+                "Expected batched inserts but " + statements + " statements were prepared");
+    }
+
+    private FoodTruck persistFoodTruck() {
+        Vendor vendor = new Vendor();
+        vendor.setName("Batch Vendor");
+        vendor.setEmail("batch@vendor.com");
+        vendor.setPassword("password");
+        entityManager.persist(vendor);
+
+        Brand brand = new Brand();
+        brand.setBrandName("Batch Brand");
+        brand.setVendor(vendor);
+        entityManager.persist(brand);
+
+        FoodTruck foodTruck = new FoodTruck();
+        foodTruck.setBrand(brand);
+        foodTruck.setOperatingRegion("Chennai");
+        entityManager.persist(foodTruck);
+
+        entityManager.flush();
+        return foodTruck;
+    }
+}
@@ -0,0 +1,183 @@
+package com.examly.springapp.repository;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs EXPLAIN on the SQL Hibernate generates for each repository lookup, against the schema of the
+// migrations, and fails when H2 plans a full scan of a table. Pages are requested unpaged but sorted,
+// so the plan still has to produce the order without the OFFSET/FETCH parameters.
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.examly.springapp.repository.QueryPlanTests$RecordedStatements")
+class QueryPlanTests {
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private FoodTruckRepository foodTruckRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private FoodTruckVendorRepo foodTruckVendorRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testApplicationLookupsUseIndexes() {
+        assertNoFullScans(() -> applicationRepository.findByStatus(Application.ApplicationStatus.SUBMITTED,
+                Pageable.unpaged(Sort.by(Sort.Direction.DESC, "submissionDate"))));
+        assertNoFullScans(() -> applicationRepository.getApplicationsByStatus(Application.ApplicationStatus.APPROVED));
+        assertNoFullScans(() -> applicationRepository.findByFoodTruckId(1L));
+        assertNoFullScans(() -> applicationRepository.findIdsByStatus(Application.ApplicationStatus.IN_REVIEW,
+                Pageable.ofSize(10)));
+        assertNoFullScans(() -> applicationRepository.findIdsByStatusSubmittedBefore(Application.ApplicationStatus.IN_REVIEW,
+                LocalDateTime.now(), Pageable.ofSize(10)));
+    }
+
+    @Test
+    void testUnassignedApplicationsProbeTheReviewIndex() {
+        // An anti-join reads every application once; each probe for its review must still be an index lookup
+        assertNoFullScans(() -> applicationRepository.findByReviewIsNull(Pageable.unpaged(Sort.by("submissionDate"))),
+                "applications");
+    }
+
+    @Test
+    void testReviewerQueuesUseIndexes() {
+        assertNoFullScans(() -> reviewRepository.findByReviewerId(Pageable.unpaged(Sort.by("reviewDate")), 1L));
+        assertNoFullScans(() -> reviewRepository.findByReviewerIdAndReviewStatus(Pageable.unpaged(Sort.by("reviewDate")),
+                1L, Review.ReviewStatus.IN_PROGRESS));
+        assertNoFullScans(() -> reviewRepository.countByReviewerId(1L));
+        assertNoFullScans(() -> reviewRepository.countByReviewerIdAndReviewStatus(1L, Review.ReviewStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void testInspectorQueuesUseIndexes() {
+        assertNoFullScans(() -> inspectionRepository.findByInspectorIdAndResult(Pageable.unpaged(Sort.by("inspectionDate")),
+                1L, Inspection.InspectionResult.IN_PROGRESS));
+        assertNoFullScans(() -> inspectionRepository.getInspectionsByInspectorId(1L));
+        assertNoFullScans(() -> inspectionRepository.getInspectionsByResult(Inspection.InspectionResult.FAIL));
+        assertNoFullScans(() -> inspectionRepository.countByInspectorIdAndResult(1L, Inspection.InspectionResult.PASS));
+    }
+
+    @Test
+    void testAccountLookupsUseIndexes() {
+        assertNoFullScans(() -> userRepository.findByEmail("admin1@gmail.com"));
+        assertNoFullScans(() -> userRepository.findByRole(User.Role.REVIEWER));
+        assertNoFullScans(() -> vendorRepository.findByEmailUsingColumnCollation("Vendor@Example.com"));
+    }
+
+    @Test
+    void testCatalogueLookupsUseIndexes() {
+        assertNoFullScans(() -> brandRepository.findByVendorId(1L));
+        assertNoFullScans(() -> foodTruckRepository.findByBrandId(1L));
+        assertNoFullScans(() -> menuItemRepository.findByTruckId(1L));
+        assertNoFullScans(() -> foodTruckVendorRepo.existsByName("Taco Truck"));
+    }
+
+    private void assertNoFullScans(Runnable lookup, String... scannableTables) {
+        // Cacheable queries must reach the database to be explained
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+        RecordedStatements.STATEMENTS.clear();
+        lookup.run();
+        List<String> statements = List.copyOf(RecordedStatements.STATEMENTS);
+        assertFalse(statements.isEmpty(), "The lookup issued no SQL");
+
+        Set<String> allowed = Set.of(scannableTables);
+        for (String sql : statements) {
+            String plan = explain(sql).toLowerCase(Locale.ROOT);
+            int scan = plan.indexOf(".tablescan");
+            while (scan >= 0) {
+                String table = plan.substring(plan.lastIndexOf('.', scan - 1) + 1, scan);
+                assertTrue(allowed.contains(table), "Full scan of " + table + " in:\n" + plan);
+                scan = plan.indexOf(".tablescan", scan + 1);
+            }
+        }
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> explain(connection, sql));
+    }
+
+    // EXPLAIN still needs every parameter bound; H2 reports the type of the column each one is compared to
+    private static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = explain.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                switch (parameters.getParameterType(i)) {
+                    case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> explain.setLong(i, 1L);
+                    case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> explain.setTimestamp(i, new Timestamp(0));
+                    default -> explain.setString(i, "1");
+                }
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    // Hibernate statement inspector collecting the SQL of the lookup under test
+    public static class RecordedStatements implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
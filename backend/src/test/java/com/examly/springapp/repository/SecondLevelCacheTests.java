@@ -0,0 +1,46 @@
+package com.examly.springapp.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.examly.springapp.model.Brand;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Starts the full context with the production cache settings: the region factory has to find
+// ehcache.xml, and a repeated lookup of a cached entity is answered from its region
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testReferenceEntitiesAreServedFromTheirRegion() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        assertTrue(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+
+        Long brandId = brandRepository.findAll().get(0).getId();
+        sessionFactory.getCache().evictEntityData(Brand.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        // Each call runs in its own session, so only the second-level cache can spare the second select
+        brandRepository.findById(brandId);
+        brandRepository.findById(brandId);
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+}
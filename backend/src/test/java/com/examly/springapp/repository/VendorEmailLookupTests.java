@@ -0,0 +1,42 @@
+package com.examly.springapp.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.examly.springapp.model.Vendor;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The vendor email lookup is a plain equality that relies on the column collation to ignore case; the
+// collation must not also ignore accents, or two distinct addresses would share a login
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class VendorEmailLookupTests {
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testLookupIgnoresCaseButNotAccents() {
+        Vendor vendor = new Vendor();
+        vendor.setName("Collation Vendor");
+        vendor.setEmail("josé@collation.example");
+        vendor.setPassword("password");
+        entityManager.persist(vendor);
+        entityManager.flush();
+
+        assertEquals(vendor.getId(),
+                vendorRepository.findByEmailUsingColumnCollation("JOSÉ@Collation.Example").orElseThrow().getId());
+        assertTrue(vendorRepository.findByEmailUsingColumnCollation("jose@collation.example").isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.examly.springapp.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.examly.springapp.model.Application;
+import com.examly.springapp.model.Inspection;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The counters on their own, reconciled against counts the test controls: updates that arrive while a
+// count runs are kept on top of it, and no move is half applied while the counters are being replaced
+class DashboardCounterRegistryTests {
+
+    private static final Application.ApplicationStatus SUBMITTED = Application.ApplicationStatus.SUBMITTED;
+    private static final Application.ApplicationStatus IN_REVIEW = Application.ApplicationStatus.IN_REVIEW;
+
+    @Test
+    void testUpdateDuringTheCountIsKept() {
+        FixedCounts counts = new FixedCounts(10);
+        DashboardCounterRegistry registry = new DashboardCounterRegistry(counts);
+        // A commit the count query did not see lands while it runs
+        counts.duringCount = () -> registry.recordApplicationTransition(null, SUBMITTED);
+
+        registry.reconcile();
+
+        assertEquals(11L, registry.snapshot().get("submittedApplications"));
+    }
+
+    @Test
+    void testFailedCountKeepsTheCounters() {
+        FixedCounts counts = new FixedCounts(10);
+        DashboardCounterRegistry registry = new DashboardCounterRegistry(counts);
+        registry.reconcile();
+        counts.duringCount = () -> {
+            registry.recordApplicationTransition(null, SUBMITTED);
+            throw new IllegalStateException("Database unavailable");
+        };
+
+        registry.reconcile();
+
+        assertEquals(11L, registry.snapshot().get("submittedApplications"));
+    }
+
+    @Test
+    void testMovesStayWholeWhileReconciling() throws Exception {
+        FixedCounts counts = new FixedCounts(1_000_000);
+        DashboardCounterRegistry registry = new DashboardCounterRegistry(counts);
+        registry.reconcile();
+
+        int threads = 4;
+        int moves = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] movers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                movers[t] = executor.submit(() -> {
+                    for (int i = 0; i < moves; i++) {
+                        registry.recordApplicationTransition(SUBMITTED, IN_REVIEW);
+                    }
+                });
+            }
+            // The counts stay at their first values, so every reconciliation adds back only the
+            // moves made during it, and the moves before it are dropped with the old counters
+            long reconciled = 0;
+            while (!allDone(movers)) {
+                registry.reconcile();
+                reconciled++;
+            }
+            for (Future<?> mover : movers) {
+                mover.get();
+            }
+            assertTrue(reconciled > 0);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Whatever was dropped, submitted and in-review still add up: no half-applied move survived
+        Map<String, Object> stats = registry.snapshot();
+        assertEquals(1_000_000L, stats.get("totalApplications"));
+    }
+
+    private static boolean allDone(Future<?>[] futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Counts every application as submitted and nothing else, running duringCount while it counts
+    private static final class FixedCounts extends DashboardStatsService {
+        private final long submitted;
+        private Runnable duringCount = () -> { };
+
+        FixedCounts(long submitted) {
+            super(null, null, null, null, null, null);
+            this.submitted = submitted;
+        }
+
+        @Override
+        public Map<Application.ApplicationStatus, Long> countApplicationsByStatus() {
+            duringCount.run();
+            Map<Application.ApplicationStatus, Long> counts = new EnumMap<>(Application.ApplicationStatus.class);
+            counts.put(SUBMITTED, submitted);
+            return counts;
+        }
+
+        @Override
+        public Map<Inspection.InspectionResult, Long> countInspectionsByResult() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<Review.ReviewStatus, Long> countReviewsByStatus() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<User.Role, Long> countUsersByRole() {
+            return Map.of();
+        }
+
+        @Override
+        public long countFoodTrucks() {
+            return 0;
+        }
+
+        @Override
+        public long countVendors() {
+            return 0;
+        }
+    }
+}